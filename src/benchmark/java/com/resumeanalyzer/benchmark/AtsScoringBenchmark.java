@@ -0,0 +1,109 @@
+package com.resumeanalyzer.benchmark;
+
+import com.resumeanalyzer.dto.ATSAnalysisRequest;
+import com.resumeanalyzer.dto.ATSAnalysisResponse;
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.features.FeatureVector;
+import com.resumeanalyzer.nlp.processors.FeatureProcessor;
+import com.resumeanalyzer.nlp.processors.SkillsProcessor;
+import com.resumeanalyzer.nlp.processors.TextPreProcessor;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import com.resumeanalyzer.service.ATSServiceImpl;
+import com.resumeanalyzer.service.JobProfile;
+import com.resumeanalyzer.service.JobProfileCache;
+import com.resumeanalyzer.service.ResumeFeatureCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ATS scoring of one analyzed resume, with the job profile taken from the
+ * cache and compiled on every call, the bare score of its feature vector (the
+ * ranking case), and the one-time cost of building that vector at analysis.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AtsScoringBenchmark {
+
+    @Param({"1024", "65536"})
+    public int textSize;
+
+    private ATSServiceImpl atsService;
+    private FeatureProcessor featureProcessor;
+    private Resume resume;
+    private ParsedDocument document;
+    private FeatureVector features;
+    private JobProfile jobProfile;
+    private SkillTaxonomy taxonomy;
+    private ATSAnalysisRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SkillTaxonomyProvider taxonomies = BenchmarkTaxonomy.bundled();
+        taxonomy = taxonomies.current();
+
+        JobProfileCache jobProfileCache = new JobProfileCache();
+        ReflectionTestUtils.setField(jobProfileCache, "taxonomies", taxonomies);
+        ReflectionTestUtils.setField(jobProfileCache, "maxEntries", 256);
+        ReflectionTestUtils.setField(jobProfileCache, "ttl", Duration.ofHours(1));
+        jobProfileCache.initialize();
+
+        featureProcessor = new FeatureProcessor();
+        ReflectionTestUtils.setField(featureProcessor, "taxonomies", taxonomies);
+        ReflectionTestUtils.setField(featureProcessor, "textPreProcessor", new TextPreProcessor());
+        SkillsProcessor skillsProcessor = new SkillsProcessor();
+        ReflectionTestUtils.setField(skillsProcessor, "taxonomies", taxonomies);
+
+        ResumeFeatureCache featureCache = new ResumeFeatureCache();
+        ReflectionTestUtils.setField(featureCache, "featureProcessor", featureProcessor);
+        ReflectionTestUtils.setField(featureCache, "taxonomies", taxonomies);
+        ReflectionTestUtils.setField(featureCache, "maxEntries", 16);
+        ReflectionTestUtils.setField(featureCache, "ttl", Duration.ofHours(1));
+        featureCache.initialize();
+
+        atsService = new ATSServiceImpl();
+        ReflectionTestUtils.setField(atsService, "jobProfileCache", jobProfileCache);
+        ReflectionTestUtils.setField(atsService, "featureCache", featureCache);
+        ReflectionTestUtils.setField(atsService, "metrics", new AnalysisMetrics(new SimpleMeterRegistry(), false));
+
+        resume = new Resume();
+        resume.setId(1L);
+        resume.setOriginalText(SyntheticCorpus.resumeText(textSize, 11));
+        document = ParsedDocument.parse(new TextPreProcessor().preprocessText(resume.getOriginalText()));
+        skillsProcessor.extractSkills(resume, document);
+        featureProcessor.computeFeatures(resume, document);
+        features = featureCache.get(resume);
+        request = new ATSAnalysisRequest(SyntheticCorpus.jobDescription(3), "Senior Backend Engineer", "Acme Corp");
+        jobProfile = jobProfileCache.get(request.getJobDescription());
+    }
+
+    @Benchmark
+    public ATSAnalysisResponse analyzeWithCachedProfile() {
+        return atsService.analyzeATS(resume, request);
+    }
+
+    @Benchmark
+    public ATSAnalysisResponse analyzeWithCompiledProfile() {
+        return atsService.analyzeATS(resume, JobProfile.compile(request.getJobDescription(), taxonomy));
+    }
+
+    @Benchmark
+    public Double scoreFeatureVector() {
+        return atsService.calculateATSScore(features, jobProfile);
+    }
+
+    @Benchmark
+    public FeatureVector buildFeatureVector() {
+        return featureProcessor.buildVector(resume, document);
+    }
+}
@@ -0,0 +1,62 @@
+package com.resumeanalyzer.benchmark;
+
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The bundled skill taxonomy for benchmarks that build processors by hand,
+ * optionally padded with synthetic skills to measure dictionary scaling.
+ */
+public final class BenchmarkTaxonomy {
+
+    private BenchmarkTaxonomy() {
+    }
+
+    public static SkillTaxonomyProvider bundled() {
+        return provider(new ClassPathResource("taxonomy.csv"));
+    }
+
+    public static SkillTaxonomyProvider withSyntheticSkills(int count) {
+        return provider(new ByteArrayResource(csvWithSyntheticSkills(count)));
+    }
+
+    public static SkillTaxonomy compileWithSyntheticSkills(int count) {
+        try (InputStream input = new ByteArrayInputStream(csvWithSyntheticSkills(count))) {
+            return SkillTaxonomy.read(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SkillTaxonomyProvider provider(Resource location) {
+        SkillTaxonomyProvider provider = new SkillTaxonomyProvider();
+        ReflectionTestUtils.setField(provider, "location", location);
+        provider.initialize();
+        return provider;
+    }
+
+    private static byte[] csvWithSyntheticSkills(int count) {
+        try (InputStream input = new ClassPathResource("taxonomy.csv").getInputStream()) {
+            StringBuilder csv = new StringBuilder(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+            if (csv.charAt(csv.length() - 1) != '\n') {
+                csv.append('\n');
+            }
+            for (int i = 0; i < count; i++) {
+                csv.append("skill,FRAMEWORKS,synthetic framework ").append(i).append(",,,\n");
+            }
+            return csv.toString().getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.resumeanalyzer.benchmark;
+
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import com.resumeanalyzer.utils.ExtractionLimiter;
+import com.resumeanalyzer.utils.FileProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text extraction from synthetic PDFs (1 to 200 pages) and DOCX files of comparable size,
+ * with DOCX read both by the streaming extractor and by POI.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentExtractionBenchmark {
+
+    @Param({"1", "20", "200"})
+    public int pages;
+
+    private AnnotationConfigApplicationContext context;
+    private AnnotationConfigApplicationContext poiContext;
+    private FileProcessor fileProcessor;
+    private FileProcessor poiFileProcessor;
+    private ByteArrayResource pdf;
+    private ByteArrayResource docx;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Single-threaded benchmark, so the limiter never blocks; it is measured for its bookkeeping cost
+        context = extractionContext(true);
+        poiContext = extractionContext(false);
+        fileProcessor = context.getBean(FileProcessor.class);
+        poiFileProcessor = poiContext.getBean(FileProcessor.class);
+
+        pdf = new ByteArrayResource(SyntheticCorpus.resumePdf(pages, 7));
+        // About as much text as the PDF holds
+        docx = new ByteArrayResource(SyntheticCorpus.resumeDocx(pages * 3000, 7));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        poiContext.close();
+    }
+
+    @Benchmark
+    public String extractFromPdf() throws Exception {
+        return fileProcessor.extractText(pdf, "resume.pdf", "application/pdf");
+    }
+
+    @Benchmark
+    public String extractFromDocx() throws Exception {
+        return fileProcessor.extractText(docx, "resume.docx",
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+    }
+
+    @Benchmark
+    public String extractFromDocxWithPoi() throws Exception {
+        return poiFileProcessor.extractText(docx, "resume.docx",
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+    }
+
+    /**
+     * FileProcessor with the extractor registry and limiter it uses in the application,
+     * configured from the @Value defaults.
+     */
+    private static AnnotationConfigApplicationContext extractionContext(boolean streamingDocx) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        // The limits normally come from application.properties; raise them so 200 pages are accepted
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "analyzer.pdf.max-pages", 1000,
+                "analyzer.pdf.max-chars", Integer.MAX_VALUE,
+                "analyzer.docx.max-chars", Integer.MAX_VALUE,
+                "analyzer.docx.streaming", streamingDocx)));
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.register(AnalysisMetrics.class, ExtractionLimiter.class, FileProcessor.class);
+        context.scan("com.resumeanalyzer.extraction");
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,99 @@
+package com.resumeanalyzer.benchmark;
+
+import com.resumeanalyzer.extraction.DocxXmlReader;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compares the streaming DOCX extractor with POI's XWPFWordExtractor on the
+ * synthetic corpus and on every .docx file under the directories given as
+ * arguments. Texts are compared with whitespace collapsed, since the two differ
+ * only in where they put line breaks and tabs. Exits with status 1 on any mismatch.
+ */
+public class DocxExtractionValidation {
+
+    public static void main(String[] args) throws IOException {
+        Map<String, byte[]> corpus = new LinkedHashMap<>();
+        for (int size : new int[]{1024, 16384, 262144}) {
+            for (long seed = 1; seed <= 5; seed++) {
+                corpus.put("plain-" + size + "-" + seed, SyntheticCorpus.resumeDocx(size, seed));
+                corpus.put("layout-" + size + "-" + seed, SyntheticCorpus.resumeDocxWithLayout(size, seed));
+            }
+        }
+        for (String directory : args) {
+            try (Stream<Path> files = Files.walk(Path.of(directory))) {
+                for (Path file : files.filter(path -> path.toString().toLowerCase().endsWith(".docx")).toList()) {
+                    corpus.put(file.toString(), Files.readAllBytes(file));
+                }
+            }
+        }
+
+        DocxXmlReader streaming = new DocxXmlReader(100L * 1024 * 1024, Integer.MAX_VALUE);
+        List<String> mismatches = new ArrayList<>();
+        for (Map.Entry<String, byte[]> document : corpus.entrySet()) {
+            String expected;
+            try {
+                expected = withPoi(document.getValue());
+            } catch (Exception e) {
+                System.out.printf("SKIP  %s (POI cannot read it: %s)%n", document.getKey(), e.getMessage());
+                continue;
+            }
+            String actual;
+            try {
+                actual = streaming.read(new ByteArrayInputStream(document.getValue())).trim();
+            } catch (IOException e) {
+                // In production this document would be handed to POI
+                System.out.printf("FALLBACK %s (%s)%n", document.getKey(), e.getMessage());
+                continue;
+            }
+            String difference = firstDifference(collapse(expected), collapse(actual));
+            if (difference == null) {
+                System.out.printf("OK    %s (%d chars)%n", document.getKey(), actual.length());
+            } else {
+                System.out.printf("DIFF  %s: %s%n", document.getKey(), difference);
+                mismatches.add(document.getKey());
+            }
+        }
+
+        System.out.printf("%d documents, %d mismatches%n", corpus.size(), mismatches.size());
+        if (!mismatches.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private static String withPoi(byte[] docx) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(new ByteArrayInputStream(docx));
+             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+            return extractor.getText().trim();
+        }
+    }
+
+    private static String collapse(String text) {
+        return text.replaceAll("\\s+", " ").trim();
+    }
+
+    private static String firstDifference(String expected, String actual) {
+        int length = Math.min(expected.length(), actual.length());
+        int i = 0;
+        while (i < length && expected.charAt(i) == actual.charAt(i)) {
+            i++;
+        }
+        if (i == expected.length() && i == actual.length()) {
+            return null;
+        }
+        int from = Math.max(0, i - 30);
+        return String.format("at %d, POI \"%s\" vs streaming \"%s\"", i,
+                expected.substring(from, Math.min(expected.length(), i + 30)),
+                actual.substring(from, Math.min(actual.length(), i + 30)));
+    }
+}
@@ -0,0 +1,134 @@
+package com.resumeanalyzer.benchmark;
+
+import com.resumeanalyzer.model.EducationExtraction;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.model.SkillExtraction;
+import com.resumeanalyzer.repository.ResumeRepository;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Imports synthetic resumes, each with skill and education rows, into an
+ * embedded H2 database (MySQL mode) and reports rows per second with JDBC
+ * batching disabled and enabled.
+ *
+ * <p>Usage: {@code mvn -Pbenchmark test-compile exec:exec
+ * -Dbenchmark.mainClass=com.resumeanalyzer.benchmark.PersistenceBatchBenchmark -Dbenchmark.args="10000 50"}
+ * where the arguments are the number of resumes and the batch size.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = Resume.class)
+@EnableJpaRepositories(basePackageClasses = ResumeRepository.class)
+public class PersistenceBatchBenchmark {
+
+    private static final String[] SKILLS = {
+            "Java", "Python", "Spring Boot", "Docker", "Kubernetes", "AWS", "MySQL", "React", "Git", "REST"
+    };
+
+    private static final int SKILLS_PER_RESUME = 8;
+    private static final int SAVE_CHUNK = 500;
+    private static final int WARMUP_RESUMES = 1000;
+
+    public static void main(String[] args) {
+        int resumes = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        Result unbatched = run("unbatched", resumes, 0);
+        Result batched = run("batched", resumes, batchSize);
+
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %14s%n", "mode", "rows", "millis", "rows/sec");
+        for (Result result : List.of(unbatched, batched)) {
+            System.out.printf("%-10s %10d %10d %14.0f%n",
+                    result.mode(), result.rows(), result.millis(), result.rowsPerSecond());
+        }
+        System.out.printf("speedup: %.2fx%n", batched.rowsPerSecond() / unbatched.rowsPerSecond());
+    }
+
+    private static Result run(String mode, int resumes, int batchSize) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PersistenceBatchBenchmark.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--logging.level.root=WARN")) {
+            ResumeRepository repository = context.getBean(ResumeRepository.class);
+
+            importResumes(repository, WARMUP_RESUMES);
+
+            long start = System.nanoTime();
+            long rows = importResumes(repository, resumes);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            return new Result(mode, rows, Math.max(millis, 1));
+        }
+    }
+
+    private static long importResumes(ResumeRepository repository, int count) {
+        long rows = 0;
+        List<Resume> chunk = new ArrayList<>(SAVE_CHUNK);
+        for (int i = 0; i < count; i++) {
+            Resume resume = syntheticResume(i);
+            // The resume row, its content row and the extraction rows
+            rows += 2 + resume.getSkillExtractions().size() + resume.getEducationExtractions().size();
+            chunk.add(resume);
+            if (chunk.size() == SAVE_CHUNK || i == count - 1) {
+                // One transaction per chunk, like the bulk ingestion persister
+                repository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        return rows;
+    }
+
+    private static Resume syntheticResume(int index) {
+        Resume resume = new Resume();
+        resume.setFileName("resume-" + index + ".pdf");
+        resume.setFileType("application/pdf");
+        resume.setOriginalText("Candidate " + index + " with experience in Java and Spring Boot.");
+        resume.setProcessedText("candidate " + index + " with experience in java and spring boot.");
+        resume.setFullName("Candidate " + index);
+        resume.setEmail("candidate" + index + "@example.com");
+        resume.setSeniority("Mid-Level");
+        resume.setTotalExperienceYears(index % 15);
+        resume.setCreatedAt(LocalDateTime.now());
+
+        List<SkillExtraction> skills = new ArrayList<>(SKILLS_PER_RESUME);
+        for (int i = 0; i < SKILLS_PER_RESUME; i++) {
+            String skill = SKILLS[(index + i) % SKILLS.length];
+            skills.add(new SkillExtraction(null, skill, "Programming Languages", 0.8, 1 + i % 3, null, resume));
+        }
+        resume.setSkillExtractions(skills);
+
+        EducationExtraction education = new EducationExtraction();
+        education.setDegree("Bachelor's");
+        education.setInstitution("State University");
+        education.setFieldOfStudy("Computer Science");
+        education.setResume(resume);
+        resume.setEducationExtractions(List.of(education));
+        return resume;
+    }
+
+    private record Result(String mode, long rows, long millis) {
+        double rowsPerSecond() {
+            return rows * 1000.0 / millis;
+        }
+    }
+}
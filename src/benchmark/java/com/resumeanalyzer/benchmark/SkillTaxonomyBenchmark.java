@@ -0,0 +1,52 @@
+package com.resumeanalyzer.benchmark;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.processors.SkillsProcessor;
+import com.resumeanalyzer.nlp.processors.TextPreProcessor;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Skill extraction against the bundled taxonomy and one padded with 20,000
+ * synthetic skills, and the cost of compiling such a taxonomy on reload.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillTaxonomyBenchmark {
+
+    @Param({"0", "20000"})
+    public int syntheticSkills;
+
+    @Param({"65536"})
+    public int textSize;
+
+    private SkillsProcessor skillsProcessor;
+    private ParsedDocument document;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        skillsProcessor = new SkillsProcessor();
+        ReflectionTestUtils.setField(skillsProcessor, "taxonomies", BenchmarkTaxonomy.withSyntheticSkills(syntheticSkills));
+        document = ParsedDocument.parse(new TextPreProcessor().preprocessText(SyntheticCorpus.resumeText(textSize, 42)));
+    }
+
+    @Benchmark
+    public Resume extractSkills() {
+        Resume resume = new Resume();
+        skillsProcessor.extractSkills(resume, document);
+        return resume;
+    }
+
+    @Benchmark
+    public SkillTaxonomy compileTaxonomy() {
+        return BenchmarkTaxonomy.compileWithSyntheticSkills(syntheticSkills);
+    }
+}
@@ -0,0 +1,198 @@
+package com.resumeanalyzer.benchmark;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.wp.usermodel.HeaderFooterType;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic resumes and job descriptions for the benchmarks.
+ * The same size and seed always produce the same document.
+ */
+public final class SyntheticCorpus {
+
+    private static final String[] NAMES = {"Jordan Lee", "Sam Rivera", "Alex Morgan", "Taylor Chen", "Casey Patel"};
+
+    private static final String[] SKILLS = {
+            "Java", "Python", "JavaScript", "Spring Boot", "React", "Docker", "Kubernetes", "AWS",
+            "PostgreSQL", "MySQL", "Redis", "Kafka", "Terraform", "Git", "Jenkins", "GraphQL",
+            "TensorFlow", "Pandas", "Node.js", "Angular", "C++", "Go", "Scala", "Microservices"
+    };
+
+    private static final String[] COMPANIES = {"Acme Corp", "Globex Inc", "Initech", "Umbrella Ltd", "Hooli"};
+
+    private static final String[] TITLES = {"Software Engineer", "Senior Developer", "Backend Engineer", "Tech Lead"};
+
+    private static final String[] ACTIVITIES = {
+            "Developed REST APIs and microservices handling high traffic with low latency.",
+            "Led a team of engineers through agile sprints, code reviews and design discussions.",
+            "Optimized database queries and caching, reducing response times significantly.",
+            "Built CI/CD pipelines with automated testing, debugging and deployment to the cloud.",
+            "Collaborated with product managers on analysis, design and implementation of features.",
+            "Migrated legacy services to containers orchestrated on a managed cluster."
+    };
+
+    private static final int LINES_PER_PAGE = 45;
+
+    private SyntheticCorpus() {
+    }
+
+    /**
+     * Resume text of roughly {@code targetChars} characters: a header followed by
+     * repeated experience blocks, then education and skills sections.
+     */
+    public static String resumeText(int targetChars, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(targetChars + 512);
+        String name = NAMES[random.nextInt(NAMES.length)];
+        text.append(name).append('\n')
+                .append(name.toLowerCase().replace(' ', '.')).append("@example.com | +1 (555) 123-4567\n")
+                .append("linkedin.com/in/").append(name.toLowerCase().replace(' ', '-')).append('\n')
+                .append("Summary\n")
+                .append("Software engineer with ").append(3 + random.nextInt(12))
+                .append(" years of experience building distributed systems.\n")
+                .append("Experience\n");
+
+        int year = 2024;
+        while (text.length() < targetChars - 300) {
+            int start = year - 1 - random.nextInt(3);
+            text.append(TITLES[random.nextInt(TITLES.length)]).append(", ")
+                    .append(COMPANIES[random.nextInt(COMPANIES.length)]).append(' ')
+                    .append(start).append(" - ").append(year).append('\n');
+            for (int i = 0; i < 4; i++) {
+                text.append("- ").append(ACTIVITIES[random.nextInt(ACTIVITIES.length)])
+                        .append(" Used ").append(SKILLS[random.nextInt(SKILLS.length)])
+                        .append(" and ").append(SKILLS[random.nextInt(SKILLS.length)]).append(".\n");
+            }
+            year = start > 1980 ? start : 2024;
+        }
+
+        text.append("Education\n")
+                .append("Bachelor of Science in Computer Science, State University 2010\n")
+                .append("Skills\n");
+        for (int i = 0; i < 10; i++) {
+            text.append(SKILLS[random.nextInt(SKILLS.length)]).append(i < 9 ? ", " : "\n");
+        }
+        return text.toString();
+    }
+
+    public static String jobDescription(long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder("Senior Backend Engineer\n")
+                .append("We are looking for a senior engineer with 5+ years of experience in ");
+        for (int i = 0; i < 6; i++) {
+            text.append(SKILLS[random.nextInt(SKILLS.length)]).append(", ");
+        }
+        return text.append("REST APIs and SQL. Bachelor degree required; leadership, communication ")
+                .append("and problem solving skills, agile and scrum experience, project management.")
+                .toString();
+    }
+
+    /**
+     * Single-column PDF of {@code pages} pages filled with resume text.
+     */
+    public static byte[] resumePdf(int pages, long seed) {
+        String[] lines = resumeText(pages * LINES_PER_PAGE * 80, seed).split("\n");
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            int line = 0;
+            for (int page = 0; page < pages; page++) {
+                PDPage pdfPage = new PDPage();
+                document.addPage(pdfPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdfPage)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 9);
+                    content.setLeading(14);
+                    content.newLineAtOffset(40, 750);
+                    for (int i = 0; i < LINES_PER_PAGE; i++) {
+                        String text = lines[line++ % lines.length];
+                        content.showText(text.length() > 110 ? text.substring(0, 110) : text);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * DOCX with one paragraph per line of a resume of roughly {@code targetChars} characters.
+     */
+    public static byte[] resumeDocx(int targetChars, long seed) {
+        try (XWPFDocument document = new XWPFDocument();
+             ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            for (String line : resumeText(targetChars, seed).split("\n")) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * DOCX using the layout features resumes typically have: a header and footer,
+     * a skills table, tabs and line breaks inside paragraphs, and words split
+     * across differently formatted runs.
+     */
+    public static byte[] resumeDocxWithLayout(int targetChars, long seed) {
+        Random random = new Random(seed);
+        String[] lines = resumeText(targetChars, seed).split("\n");
+        try (XWPFDocument document = new XWPFDocument();
+             ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            document.createHeader(HeaderFooterType.DEFAULT).createParagraph().createRun().setText(lines[0] + " - Resume");
+            document.createFooter(HeaderFooterType.DEFAULT).createParagraph().createRun().setText("Page 1 | " + lines[1]);
+
+            for (String line : lines) {
+                XWPFParagraph paragraph = document.createParagraph();
+                if (line.startsWith("- ") && random.nextBoolean()) {
+                    // Bold first word in its own run, the rest after a tab
+                    int space = line.indexOf(' ', 2);
+                    XWPFRun first = paragraph.createRun();
+                    first.setBold(true);
+                    first.setText(space > 0 ? line.substring(0, space) : line);
+                    if (space > 0) {
+                        XWPFRun rest = paragraph.createRun();
+                        rest.addTab();
+                        rest.setText(line.substring(space + 1));
+                    }
+                } else if (line.length() > 40 && random.nextInt(4) == 0) {
+                    XWPFRun run = paragraph.createRun();
+                    run.setText(line.substring(0, 40));
+                    run.addBreak();
+                    run.setText(line.substring(40));
+                } else {
+                    paragraph.createRun().setText(line);
+                }
+            }
+
+            XWPFTable table = document.createTable(3, 3);
+            for (int row = 0; row < 3; row++) {
+                for (int column = 0; column < 3; column++) {
+                    table.getRow(row).getCell(column).setText(SKILLS[random.nextInt(SKILLS.length)]);
+                }
+            }
+            document.createParagraph().createRun().setText("References available on request");
+
+            document.write(output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.resumeanalyzer.benchmark;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.document.SectionSegmenter;
+import com.resumeanalyzer.nlp.processors.ExperienceProcessor;
+import com.resumeanalyzer.nlp.processors.SkillsProcessor;
+import com.resumeanalyzer.nlp.processors.TextPreProcessor;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text stages of the analysis pipeline on synthetic resumes from 1 KB to 5 MB.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextPipelineBenchmark {
+
+    @Param({"1024", "65536", "1048576", "5242880"})
+    public int textSize;
+
+    private final TextPreProcessor textPreProcessor = new TextPreProcessor();
+    private final SkillsProcessor skillsProcessor = new SkillsProcessor();
+    private final ExperienceProcessor experienceProcessor = new ExperienceProcessor();
+    private final SectionSegmenter sectionSegmenter = new SectionSegmenter();
+
+    private String rawText;
+    private String processedText;
+    private ParsedDocument document;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SkillTaxonomyProvider taxonomies = BenchmarkTaxonomy.bundled();
+        ReflectionTestUtils.setField(skillsProcessor, "taxonomies", taxonomies);
+        ReflectionTestUtils.setField(experienceProcessor, "taxonomies", taxonomies);
+        ReflectionTestUtils.setField(sectionSegmenter, "taxonomies", taxonomies);
+        rawText = SyntheticCorpus.resumeText(textSize, 42);
+        processedText = textPreProcessor.preprocessText(rawText);
+        document = ParsedDocument.parse(processedText, sectionSegmenter);
+    }
+
+    @Benchmark
+    public String preprocessText() {
+        return textPreProcessor.preprocessText(rawText);
+    }
+
+    @Benchmark
+    public ParsedDocument parseDocument() {
+        return ParsedDocument.parse(processedText);
+    }
+
+    @Benchmark
+    public ParsedDocument parseAndSegmentDocument() {
+        return ParsedDocument.parse(processedText, sectionSegmenter);
+    }
+
+    @Benchmark
+    public Resume extractSkills() {
+        Resume resume = new Resume();
+        skillsProcessor.extractSkills(resume, document);
+        return resume;
+    }
+
+    @Benchmark
+    public Resume calculateExperience() {
+        Resume resume = new Resume();
+        experienceProcessor.calculateExperience(resume, document);
+        return resume;
+    }
+}
@@ -1,7 +1,10 @@
 package com.resumeanalyzer.config;
 
+import com.resumeanalyzer.service.ServiceBusyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
@@ -16,10 +19,23 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, String>> handleMaxSizeException(MaxUploadSizeExceededException exc) {
         Map<String, String> error = new HashMap<>();
         error.put("error", "File size exceeds maximum limit");
-        error.put("message", "Please upload a file smaller than 10MB");
+        long maxUploadSize = exc.getMaxUploadSize();
+        error.put("message", maxUploadSize > 0
+                ? "Please upload a file smaller than " + DataSize.ofBytes(maxUploadSize).toMegabytes() + "MB"
+                : "The upload exceeds the server's size limit");
         return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(error);
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Map<String, String>> handleServiceBusyException(ServiceBusyException exc) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many requests");
+        error.put("message", exc.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exc.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception exc) {
         Map<String, String> error = new HashMap<>();
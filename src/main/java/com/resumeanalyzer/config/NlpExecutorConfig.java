@@ -0,0 +1,31 @@
+package com.resumeanalyzer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class NlpExecutorConfig {
+
+    @Value("${analyzer.nlp.parallel-stages:true}")
+    private boolean parallelStages;
+
+    // 0 runs each stage on its own virtual thread; a positive value uses a fixed platform pool
+    @Value("${analyzer.nlp.stage-threads:0}")
+    private int stageThreads;
+
+    @Bean
+    public Executor nlpStageExecutor() {
+        if (!parallelStages) {
+            return Runnable::run;
+        }
+        if (stageThreads > 0) {
+            return Executors.newFixedThreadPool(stageThreads,
+                    Thread.ofPlatform().name("nlp-stage-", 0).daemon(true).factory());
+        }
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("nlp-stage-", 0).factory());
+    }
+}
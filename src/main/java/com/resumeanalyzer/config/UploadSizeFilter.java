@@ -0,0 +1,75 @@
+package com.resumeanalyzer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Checks the declared size of multipart requests per endpoint before their body
+ * is read. The servlet multipart limits have to admit bulk uploads, so without
+ * this check any upload endpoint would accept and spool hundreds of megabytes.
+ * Requests to single-file endpoints must declare their length; bulk requests
+ * without one are still capped by the servlet limits.
+ */
+@Component
+public class UploadSizeFilter extends OncePerRequestFilter {
+
+    private static final String BULK_PATH = "/api/resumes/bulk";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${analyzer.upload.max-request-size:11MB}")
+    private DataSize maxUploadRequestSize;
+
+    @Value("${analyzer.bulk.max-request-size:500MB}")
+    private DataSize maxBulkRequestSize;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType == null || !contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean bulk = BULK_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+        DataSize limit = bulk ? maxBulkRequestSize : maxUploadRequestSize;
+        long length = request.getContentLengthLong();
+        if (length < 0 && !bulk) {
+            reject(response, HttpStatus.LENGTH_REQUIRED, "Length required",
+                    "Upload requests must declare a Content-Length");
+        } else if (length > limit.toBytes()) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "File size exceeds maximum limit",
+                    "Uploads to this endpoint are limited to " + limit.toMegabytes() + "MB");
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String title, String message)
+            throws IOException {
+        Map<String, String> error = new LinkedHashMap<>();
+        error.put("error", title);
+        error.put("message", message);
+        // The body is not read; the connection is closed rather than drained
+        response.setHeader("Connection", "close");
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
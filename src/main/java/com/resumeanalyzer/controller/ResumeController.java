@@ -1,17 +1,44 @@
 package com.resumeanalyzer.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.resumeanalyzer.dto.ATSAnalysisRequest;
 import com.resumeanalyzer.dto.ATSAnalysisResponse;
+import com.resumeanalyzer.dto.AnalysisJobResponse;
+import com.resumeanalyzer.dto.BulkJobStatusResponse;
+import com.resumeanalyzer.dto.RankingRequest;
+import com.resumeanalyzer.dto.RankingResponse;
+import com.resumeanalyzer.dto.CacheStatsResponse;
 import com.resumeanalyzer.dto.ResumeAnalysisResponse;
+import com.resumeanalyzer.dto.ResumePageResponse;
+import com.resumeanalyzer.dto.ResumeSearchCriteria;
+import com.resumeanalyzer.dto.SkillSearchResponse;
+import com.resumeanalyzer.dto.UploadQueueStatsResponse;
+import com.resumeanalyzer.service.AsyncUploadService;
+import com.resumeanalyzer.service.BulkIngestionService;
+import com.resumeanalyzer.service.RankingService;
 import com.resumeanalyzer.service.ResumeAnalysisService;
+import com.resumeanalyzer.service.ServiceBusyException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/resumes")
@@ -21,12 +48,31 @@ public class ResumeController {
     @Autowired
     private ResumeAnalysisService resumeAnalysisService;
 
+    @Autowired
+    private BulkIngestionService bulkIngestionService;
+
+    @Autowired
+    private AsyncUploadService asyncUploadService;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // The request size is checked by UploadSizeFilter; the file part of a single upload is capped here
+    @Value("${analyzer.upload.max-file-size:10MB}")
+    private DataSize maxUploadFileSize;
+
     @PostMapping("/upload")
     public ResponseEntity<?> uploadAndAnalyzeResume(
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "jobDescription", required = false) String jobDescription,
             @RequestParam(value = "jobTitle", required = false) String jobTitle,
-            @RequestParam(value = "companyName", required = false) String companyName) {
+            @RequestParam(value = "companyName", required = false) String companyName) throws ServiceBusyException {
+        if (file.getSize() > maxUploadFileSize.toBytes()) {
+            throw new MaxUploadSizeExceededException(maxUploadFileSize.toBytes());
+        }
         try {
             if (file.isEmpty()) {
                 Map<String, String> error = new HashMap<>();
@@ -42,6 +88,9 @@ public class ResumeController {
             
             ResumeAnalysisResponse response = resumeAnalysisService.analyzeResume(file, atsRequest);
             return ResponseEntity.ok(response);
+        } catch (ServiceBusyException e) {
+            // Answered with 429 by the GlobalExceptionHandler
+            throw e;
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", "File processing failed");
@@ -50,6 +99,84 @@ public class ResumeController {
         }
     }
 
+    @PostMapping("/upload/async")
+    public ResponseEntity<?> submitAsyncUpload(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "jobDescription", required = false) String jobDescription,
+            @RequestParam(value = "jobTitle", required = false) String jobTitle,
+            @RequestParam(value = "companyName", required = false) String companyName) throws ServiceBusyException {
+        if (file.getSize() > maxUploadFileSize.toBytes()) {
+            throw new MaxUploadSizeExceededException(maxUploadFileSize.toBytes());
+        }
+        ATSAnalysisRequest atsRequest = null;
+        if (jobDescription != null && !jobDescription.trim().isEmpty()) {
+            atsRequest = new ATSAnalysisRequest(jobDescription, jobTitle, companyName);
+        }
+        try {
+            AnalysisJobResponse response = asyncUploadService.submit(file, atsRequest);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/resumes/upload/jobs/" + response.getJobId()))
+                    .body(response);
+        } catch (ServiceBusyException e) {
+            throw e;
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "File processing failed");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<AnalysisJobResponse> getAsyncUploadJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(asyncUploadService.getJob(jobId));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping(value = "/upload/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAsyncUploadJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(asyncUploadService.subscribe(jobId));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/upload/queue")
+    public ResponseEntity<UploadQueueStatsResponse> getUploadQueueStats() {
+        return ResponseEntity.ok(asyncUploadService.getQueueStats());
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<?> submitBulkUpload(@RequestParam("files") MultipartFile[] files)
+            throws ServiceBusyException {
+        try {
+            BulkJobStatusResponse response = bulkIngestionService.submit(files);
+            return ResponseEntity.accepted().body(response);
+        } catch (ServiceBusyException e) {
+            throw e;
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Bulk upload failed");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/bulk/{jobId}")
+    public ResponseEntity<BulkJobStatusResponse> getBulkJobStatus(
+            @PathVariable String jobId,
+            @RequestParam(value = "includeResults", defaultValue = "false") boolean includeResults) {
+        try {
+            return ResponseEntity.ok(bulkIngestionService.getJobStatus(jobId, includeResults));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PostMapping("/{id}/ats-analysis")
     public ResponseEntity<?> performATSAnalysis(
             @PathVariable Long id,
@@ -65,6 +192,48 @@ public class ResumeController {
         }
     }
 
+    @GetMapping
+    public ResponseEntity<ResumePageResponse> listResumes(
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "limit", defaultValue = "50") int limit,
+            @RequestParam(value = "seniority", required = false) String seniority,
+            @RequestParam(value = "minExperienceYears", required = false) Integer minExperienceYears,
+            @RequestParam(value = "maxExperienceYears", required = false) Integer maxExperienceYears,
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        ResumeSearchCriteria criteria = new ResumeSearchCriteria(
+                seniority, minExperienceYears, maxExperienceYears, createdFrom, createdTo);
+        return ResponseEntity.ok(resumeAnalysisService.listResumes(criteria, afterId, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportResumes(
+            @RequestParam(value = "seniority", required = false) String seniority,
+            @RequestParam(value = "minExperienceYears", required = false) Integer minExperienceYears,
+            @RequestParam(value = "maxExperienceYears", required = false) Integer maxExperienceYears,
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        ResumeSearchCriteria criteria = new ResumeSearchCriteria(
+                seniority, minExperienceYears, maxExperienceYears, createdFrom, createdTo);
+        ObjectWriter writer = objectMapper.writerFor(ResumeAnalysisResponse.class);
+
+        // One JSON document per line, written while the pages are being read
+        StreamingResponseBody body = (OutputStream outputStream) -> {
+            try (Stream<ResumeAnalysisResponse> resumes = resumeAnalysisService.streamResumes(criteria)) {
+                Iterator<ResumeAnalysisResponse> iterator = resumes.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(writer.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
      @GetMapping("/{id:[0-9]+}")
     public ResponseEntity<ResumeAnalysisResponse> getResumeAnalysis(@PathVariable Long id) {
         try {
@@ -75,6 +244,28 @@ public class ResumeController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<SkillSearchResponse> searchBySkills(
+            @RequestParam(value = "all", required = false) List<String> all,
+            @RequestParam(value = "any", required = false) List<String> any,
+            @RequestParam(value = "none", required = false) List<String> none,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return ResponseEntity.ok(resumeAnalysisService.searchBySkills(all, any, none, Math.max(0, limit)));
+    }
+
+    @PostMapping("/rank")
+    public ResponseEntity<?> rankResumes(@RequestBody RankingRequest request) {
+        try {
+            RankingResponse response = rankingService.rankResumes(request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Ranking failed");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @PostMapping("/match")
     public ResponseEntity<Double> matchResumeWithJob(
             @RequestParam Long resumeId,
@@ -87,6 +278,17 @@ public class ResumeController {
         }
     }
 
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getAnalysisCacheStats() {
+        return ResponseEntity.ok(resumeAnalysisService.getAnalysisCacheStats());
+    }
+
+    @DeleteMapping("/cache")
+    public ResponseEntity<Void> clearAnalysisCache() {
+        resumeAnalysisService.clearAnalysisCache();
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{id:[0-9]+}")
     public ResponseEntity<Void> deleteResume(@PathVariable Long id) {
         try {
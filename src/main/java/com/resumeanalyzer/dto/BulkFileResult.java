@@ -0,0 +1,15 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkFileResult {
+    private String fileName;
+    private String status; // PENDING, SUCCEEDED, FAILED
+    private Long resumeId;
+    private String message;
+}
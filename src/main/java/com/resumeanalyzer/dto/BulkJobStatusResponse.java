@@ -0,0 +1,23 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobStatusResponse {
+    private String jobId;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private Integer totalFiles;
+    private Integer processedFiles;
+    private Integer succeededFiles;
+    private Integer failedFiles;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private String message;
+    private List<BulkFileResult> results;
+}
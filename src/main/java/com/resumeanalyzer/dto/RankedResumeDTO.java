@@ -0,0 +1,17 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedResumeDTO {
+    private Long resumeId;
+    private String fileName;
+    private String fullName;
+    private String seniority;
+    private Integer totalExperienceYears;
+    private Double atsScore;
+}
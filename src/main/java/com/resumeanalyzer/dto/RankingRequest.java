@@ -0,0 +1,14 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingRequest {
+    private String jobDescription;
+    private Integer topK;
+    private ResumeSearchCriteria filters;
+}
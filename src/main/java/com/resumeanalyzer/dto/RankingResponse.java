@@ -0,0 +1,16 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingResponse {
+    private String jobProfileId;
+    private Long scannedResumes;
+    private Long elapsedMillis;
+    private List<RankedResumeDTO> results;
+}
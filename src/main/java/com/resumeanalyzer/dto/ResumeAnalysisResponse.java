@@ -3,6 +3,7 @@ package com.resumeanalyzer.dto;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -21,4 +22,5 @@ public class ResumeAnalysisResponse {
     private String seniority;
     private Double skillMatchScore;
     private ATSAnalysisResponse atsAnalysis;
+    private LocalDateTime createdAt;
 }
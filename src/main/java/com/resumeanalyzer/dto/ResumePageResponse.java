@@ -0,0 +1,16 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumePageResponse {
+    private List<ResumeAnalysisResponse> items;
+    // Pass as afterId to fetch the next page; null on the last page
+    private Long nextCursor;
+    private Boolean hasMore;
+}
@@ -0,0 +1,17 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSearchCriteria {
+    private String seniority;
+    private Integer minExperienceYears;
+    private Integer maxExperienceYears;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
@@ -0,0 +1,15 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillSearchResponse {
+    private Integer totalMatches;
+    private List<Long> resumeIds;
+    private Integer indexedResumes;
+}
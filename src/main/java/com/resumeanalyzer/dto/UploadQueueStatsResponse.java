@@ -0,0 +1,18 @@
+package com.resumeanalyzer.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadQueueStatsResponse {
+    private Integer queued;
+    private Integer running;
+    private Integer queueCapacity;
+    private String rejectionPolicy; // REJECT or BLOCK
+    private Long rejected;
+    private Map<String, Integer> maxConcurrentByType;
+}
@@ -0,0 +1,80 @@
+package com.resumeanalyzer.extraction;
+
+/**
+ * Cheap check on the first bytes of a file that claims to be text. Binary data
+ * renamed to .txt, or a corrupted upload, would otherwise be decoded into a
+ * string of replacement characters and run through the whole NLP pipeline.
+ */
+public final class BinaryContentDetector {
+
+    // Share of control characters above which the content is not text
+    private static final double MAX_CONTROL_RATIO = 0.05;
+
+    // Share of bytes that are not valid UTF-8; legacy single-byte encodings stay well below it
+    private static final double MAX_INVALID_UTF8_RATIO = 0.3;
+
+    private BinaryContentDetector() {
+    }
+
+    public static boolean isBinary(byte[] head) {
+        if (head.length == 0) {
+            return false;
+        }
+        if (hasUtf16ByteOrderMark(head)) {
+            // Every other byte of mostly-ASCII UTF-16 is NUL
+            return false;
+        }
+
+        int control = 0;
+        int invalid = 0;
+        int i = 0;
+        while (i < head.length) {
+            int b = head[i] & 0xFF;
+            if (b == 0) {
+                return true;
+            }
+            if (b < 0x80) {
+                if ((b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f' && b != 0x1B) || b == 0x7F) {
+                    control++;
+                }
+                i++;
+                continue;
+            }
+            int length = utf8SequenceLength(head, i);
+            if (length > 0) {
+                i += length;
+            } else {
+                invalid++;
+                i++;
+            }
+        }
+        return control > head.length * MAX_CONTROL_RATIO || invalid > head.length * MAX_INVALID_UTF8_RATIO;
+    }
+
+    private static boolean hasUtf16ByteOrderMark(byte[] head) {
+        return head.length >= 2 && ((head[0] == (byte) 0xFE && head[1] == (byte) 0xFF)
+                || (head[0] == (byte) 0xFF && head[1] == (byte) 0xFE));
+    }
+
+    // Length of the well-formed UTF-8 sequence starting at offset, or 0. A sequence cut off by the end of the head counts as valid.
+    private static int utf8SequenceLength(byte[] bytes, int offset) {
+        int lead = bytes[offset] & 0xFF;
+        int length;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+        } else {
+            return 0;
+        }
+        int end = Math.min(bytes.length, offset + length);
+        for (int i = offset + 1; i < end; i++) {
+            if ((bytes[i] & 0xC0) != 0x80) {
+                return 0;
+            }
+        }
+        return end - offset;
+    }
+}
@@ -0,0 +1,76 @@
+package com.resumeanalyzer.extraction;
+
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+@Component
+public class DocxExtractor implements TextExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(DocxExtractor.class);
+
+    @Autowired
+    private AnalysisMetrics metrics;
+
+    @Value("${analyzer.docx.max-file-size:20MB}")
+    private DataSize maxFileSize;
+
+    // Read DOCX text straight from the XML parts; POI is only used when that fails
+    @Value("${analyzer.docx.streaming:true}")
+    private boolean streaming;
+
+    @Value("${analyzer.docx.max-chars:1000000}")
+    private int maxChars;
+
+    @Value("${analyzer.docx.max-part-bytes:104857600}")
+    private long maxPartBytes;
+
+    @Override
+    public String getType() {
+        return "docx";
+    }
+
+    @Override
+    public Set<String> getMediaTypes() {
+        return Set.of("application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+    }
+
+    @Override
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    @Override
+    public String extract(InputStreamSource source) throws IOException {
+        if (streaming) {
+            try (InputStream inputStream = source.getInputStream()) {
+                return new DocxXmlReader(maxPartBytes, maxChars).read(inputStream).trim();
+            } catch (ExtractionLimitException e) {
+                throw new ExtractionLimitException("Failed to extract text from DOCX: " + e.getMessage());
+            } catch (IOException e) {
+                log.debug("Streaming DOCX extraction failed, falling back to POI: {}", e.getMessage());
+                metrics.recordExtractionFallback(getType());
+            }
+        }
+
+        try (InputStream inputStream = source.getInputStream();
+             XWPFDocument document = new XWPFDocument(inputStream);
+             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+            String text = extractor.getText();
+            return text != null ? text.trim() : "";
+        } catch (IOException e) {
+            throw new IOException("Failed to extract text from DOCX: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.resumeanalyzer.extraction;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads the text of a DOCX straight from its XML parts with StAX, without
+ * building POI's object model. Headers come first, then the body, then the
+ * footers, like XWPFWordExtractor. Paragraphs and table rows end with a
+ * newline and table cells with a tab.
+ * <p>
+ * Documents it cannot read (no word/document.xml, malformed XML) raise an
+ * {@link IOException}, so callers can fall back to POI. Documents over the
+ * size limits raise an {@link ExtractionLimitException}, which should not be retried.
+ */
+public class DocxXmlReader {
+
+    private static final String MAIN_PART = "word/document.xml";
+
+    private final long maxPartBytes;
+    private final int maxChars;
+
+    /**
+     * @param maxPartBytes limit on the uncompressed size of each XML part, against ZIP bombs
+     * @param maxChars     limit on the extracted text
+     */
+    public DocxXmlReader(long maxPartBytes, int maxChars) {
+        this.maxPartBytes = maxPartBytes;
+        this.maxChars = maxChars;
+    }
+
+    public String read(InputStream inputStream) throws IOException {
+        StringBuilder body = null;
+        List<String> headers = new ArrayList<>();
+        List<String> footers = new ArrayList<>();
+
+        // Entries are read in archive order, so the parts are collected and assembled at the end
+        try (ZipInputStream zip = new ZipInputStream(inputStream)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = entry.getName();
+                if (name.equals(MAIN_PART)) {
+                    body = new StringBuilder();
+                    readPart(zip, body);
+                } else if (isPart(name, "word/header")) {
+                    headers.add(readPart(zip));
+                } else if (isPart(name, "word/footer")) {
+                    footers.add(readPart(zip));
+                }
+            }
+        }
+        if (body == null) {
+            throw new IOException("No " + MAIN_PART + " in the archive");
+        }
+
+        StringBuilder text = new StringBuilder(body.length() + 256);
+        headers.forEach(text::append);
+        text.append(body);
+        footers.forEach(text::append);
+        return text.toString();
+    }
+
+    private static boolean isPart(String name, String prefix) {
+        return name.startsWith(prefix) && name.endsWith(".xml") && name.indexOf('/', prefix.length()) < 0;
+    }
+
+    private String readPart(InputStream part) throws IOException {
+        StringBuilder text = new StringBuilder();
+        readPart(part, text);
+        return text.toString();
+    }
+
+    private void readPart(InputStream part, StringBuilder text) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = XmlParts.INPUT_FACTORY.createXMLStreamReader(XmlParts.limited(part, maxPartBytes, "DOCX"));
+            readText(reader, text);
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed DOCX part: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    // Closes only the reader; the ZIP stream stays open for the next entry
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+    }
+
+    private void readText(XMLStreamReader reader, StringBuilder text) throws XMLStreamException, IOException {
+        int runDepth = 0;
+        boolean inText = false;
+        int skipDepth = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (skipDepth > 0) {
+                // Inside an element whose content is not document text
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    skipDepth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    skipDepth--;
+                }
+                continue;
+            }
+
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    switch (reader.getLocalName()) {
+                        case "r" -> runDepth++;
+                        case "t" -> inText = runDepth > 0;
+                        // Tab and break are only text inside a run; in paragraph properties they define tab stops
+                        case "tab" -> appendInRun(text, runDepth, '\t');
+                        case "br", "cr" -> appendInRun(text, runDepth, '\n');
+                        case "noBreakHyphen" -> appendInRun(text, runDepth, '-');
+                        // Deleted revisions, field codes, and the duplicate fallback copy of text boxes and shapes
+                        case "del", "instrText", "delInstrText", "Fallback" -> skipDepth = 1;
+                        default -> {
+                        }
+                    }
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    switch (reader.getLocalName()) {
+                        case "r" -> runDepth--;
+                        case "t" -> inText = false;
+                        case "p", "tr" -> text.append('\n');
+                        case "tc" -> text.append('\t');
+                        default -> {
+                        }
+                    }
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                    if (inText) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                }
+                default -> {
+                }
+            }
+            if (text.length() > maxChars) {
+                throw new ExtractionLimitException("DOCX text exceeds the limit of " + maxChars + " characters");
+            }
+        }
+    }
+
+    private static void appendInRun(StringBuilder text, int runDepth, char c) {
+        if (runDepth > 0) {
+            text.append(c);
+        }
+    }
+}
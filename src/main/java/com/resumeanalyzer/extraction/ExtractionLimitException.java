@@ -0,0 +1,16 @@
+package com.resumeanalyzer.extraction;
+
+import java.io.IOException;
+
+/**
+ * A document is over one of the extraction limits. Unlike other read errors it
+ * should not be retried with a fallback parser.
+ */
+public class ExtractionLimitException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ExtractionLimitException(String message) {
+        super(message);
+    }
+}
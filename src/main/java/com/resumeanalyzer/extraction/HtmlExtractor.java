@@ -0,0 +1,244 @@
+package com.resumeanalyzer.extraction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTML and XHTML, e.g. resumes saved from a web page or exported by an online
+ * builder. Markup is stripped in one forward scan rather than through a DOM:
+ * block elements become line breaks and table cells tabs, scripts, styles and
+ * comments are dropped. Every search for a closing {@code >} or end tag starts
+ * where the previous one stopped, and a failed search is not repeated, so
+ * unclosed tags cost linear time like any other text.
+ */
+@Component
+public class HtmlExtractor implements TextExtractor {
+
+    private static final Pattern META_CHARSET =
+            Pattern.compile("<meta[^>]+charset\\s*=\\s*[\"']?([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+
+    // Elements whose content is never shown
+    private static final Set<String> INVISIBLE_ELEMENTS = Set.of("script", "style", "template", "noscript", "head");
+
+    private static final Set<String> BLOCK_ELEMENTS = Set.of(
+            "p", "div", "br", "li", "ul", "ol", "dl", "dt", "dd", "tr", "table", "h1", "h2", "h3", "h4", "h5", "h6",
+            "section", "article", "header", "footer", "aside", "nav", "main", "blockquote", "pre", "hr", "address",
+            "title", "body", "form", "fieldset", "figure", "figcaption");
+
+    @Value("${analyzer.html.max-file-size:5MB}")
+    private DataSize maxFileSize;
+
+    @Override
+    public String getType() {
+        return "html";
+    }
+
+    @Override
+    public Set<String> getMediaTypes() {
+        return Set.of("text/html", "application/xhtml+xml");
+    }
+
+    @Override
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    @Override
+    public boolean isTextual() {
+        return true;
+    }
+
+    @Override
+    public String extract(InputStreamSource source) throws IOException {
+        byte[] bytes;
+        try (InputStream inputStream = source.getInputStream()) {
+            bytes = inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new IOException("Failed to extract text from HTML: " + e.getMessage(), e);
+        }
+        return toText(decode(bytes));
+    }
+
+    static String toText(String html) {
+        VisibleText text = new VisibleText(html.length());
+        // Elements and comments already known to have no end tag after some position
+        Set<String> unclosed = new HashSet<>();
+        int length = html.length();
+        int position = 0;
+        while (position < length) {
+            int open = html.indexOf('<', position);
+            if (open < 0) {
+                text.appendText(html, position, length);
+                break;
+            }
+            text.appendText(html, position, open);
+
+            if (html.startsWith("<!--", open) && !unclosed.contains("--")) {
+                int close = html.indexOf("-->", open + 4);
+                if (close >= 0) {
+                    text.appendSpace();
+                    position = close + 3;
+                    continue;
+                }
+                unclosed.add("--");
+            }
+
+            int nameStart = open + 1 < length && html.charAt(open + 1) == '/' ? open + 2 : open + 1;
+            boolean markup = nameStart < length && (isAsciiLetter(html.charAt(nameStart))
+                    || (nameStart == open + 1 && (html.charAt(nameStart) == '!' || html.charAt(nameStart) == '?')));
+            if (!markup) {
+                // A "<" that starts no tag, e.g. "a < b"
+                text.appendText(html, open, open + 1);
+                position = open + 1;
+                continue;
+            }
+            int close = html.indexOf('>', nameStart);
+            if (close < 0) {
+                // No tag can end anywhere after this point; the rest is text
+                text.appendText(html, open, length);
+                break;
+            }
+            position = close + 1;
+            if (!isAsciiLetter(html.charAt(nameStart))) {
+                // Doctype, processing instruction or an unclosed comment up to its first ">"
+                continue;
+            }
+
+            int nameEnd = nameStart;
+            while (nameEnd < close && isNameChar(html.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            String name = html.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+            boolean endTag = nameStart == open + 2;
+            if (!endTag && INVISIBLE_ELEMENTS.contains(name) && !unclosed.contains(name)) {
+                int contentEnd = indexOfEndTag(html, name, position);
+                int contentClose = contentEnd >= 0 ? html.indexOf('>', contentEnd) : -1;
+                if (contentClose >= 0) {
+                    text.appendSpace();
+                    position = contentClose + 1;
+                    continue;
+                }
+                // Without an end tag only the start tag is dropped, as before
+                unclosed.add(name);
+            }
+            if (BLOCK_ELEMENTS.contains(name)) {
+                text.appendLineBreak();
+            } else if (endTag && (name.equals("td") || name.equals("th"))) {
+                text.appendTab();
+            }
+        }
+        return text.toString();
+    }
+
+    // Offset of "</name" followed by whitespace or ">", ignoring case, or -1
+    private static int indexOfEndTag(String html, String name, int from) {
+        for (int open = html.indexOf("</", from); open >= 0; open = html.indexOf("</", open + 2)) {
+            int nameEnd = open + 2 + name.length();
+            if (html.regionMatches(true, open + 2, name, 0, name.length())
+                    && nameEnd < html.length()
+                    && (html.charAt(nameEnd) == '>' || Character.isWhitespace(html.charAt(nameEnd)))) {
+                return nameEnd;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isNameChar(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '_' || c == ':' || c == '-';
+    }
+
+    // A byte order mark wins over the meta tag, which wins over the UTF-8 default
+    private static String decode(byte[] bytes) {
+        String text = PlainTextExtractor.decode(bytes);
+        if (PlainTextExtractor.hasByteOrderMark(bytes)) {
+            return text;
+        }
+        Matcher meta = META_CHARSET.matcher(text.substring(0, Math.min(text.length(), 2048)));
+        if (meta.find()) {
+            try {
+                Charset charset = Charset.forName(meta.group(1));
+                if (!charset.equals(StandardCharsets.UTF_8)) {
+                    return new String(bytes, charset);
+                }
+            } catch (IllegalArgumentException e) {
+                // Unknown charset name, keep UTF-8
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Text as a browser lays it out: source whitespace collapses to one space, no space is kept
+     * next to a line break and blank lines collapse, entities are unescaped within each run of text.
+     */
+    private static final class VisibleText {
+
+        private final StringBuilder text;
+
+        VisibleText(int capacity) {
+            text = new StringBuilder(Math.min(capacity, 1 << 20));
+        }
+
+        void appendText(String html, int start, int end) {
+            if (start == end) {
+                return;
+            }
+            String run = html.substring(start, end);
+            if (run.indexOf('&') >= 0) {
+                run = HtmlUtils.htmlUnescape(run);
+            }
+            for (int i = 0; i < run.length(); i++) {
+                char c = run.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    appendSpace();
+                } else {
+                    text.append(c == '\u00A0' ? ' ' : c);
+                }
+            }
+        }
+
+        void appendSpace() {
+            int last = text.length() - 1;
+            if (last >= 0 && text.charAt(last) != ' ' && text.charAt(last) != '\n') {
+                text.append(' ');
+            }
+        }
+
+        void appendLineBreak() {
+            int length = text.length();
+            while (length > 0 && text.charAt(length - 1) == ' ') {
+                length--;
+            }
+            text.setLength(length);
+            if (length > 0 && text.charAt(length - 1) != '\n') {
+                text.append('\n');
+            }
+        }
+
+        void appendTab() {
+            text.append('\t');
+        }
+
+        @Override
+        public String toString() {
+            return text.toString().trim();
+        }
+    }
+}
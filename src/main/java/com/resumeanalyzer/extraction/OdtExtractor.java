@@ -0,0 +1,151 @@
+package com.resumeanalyzer.extraction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * OpenDocument text, streamed from content.xml with StAX the same way as
+ * {@link DocxXmlReader} reads DOCX. Headers and footers live in styles.xml
+ * and are not read.
+ */
+@Component
+public class OdtExtractor implements TextExtractor {
+
+    private static final String CONTENT_PART = "content.xml";
+
+    @Value("${analyzer.odt.max-file-size:20MB}")
+    private DataSize maxFileSize;
+
+    @Value("${analyzer.odt.max-chars:1000000}")
+    private int maxChars;
+
+    @Value("${analyzer.odt.max-part-bytes:104857600}")
+    private long maxPartBytes;
+
+    @Override
+    public String getType() {
+        return "odt";
+    }
+
+    @Override
+    public Set<String> getMediaTypes() {
+        return Set.of("application/vnd.oasis.opendocument.text");
+    }
+
+    @Override
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    @Override
+    public String extract(InputStreamSource source) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(source.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().equals(CONTENT_PART)) {
+                    return readContent(zip).trim();
+                }
+            }
+        } catch (ExtractionLimitException e) {
+            throw new ExtractionLimitException("Failed to extract text from ODT: " + e.getMessage());
+        } catch (IOException e) {
+            throw new IOException("Failed to extract text from ODT: " + e.getMessage(), e);
+        }
+        throw new IOException("Failed to extract text from ODT: no " + CONTENT_PART + " in the archive");
+    }
+
+    private String readContent(InputStream part) throws IOException {
+        StringBuilder text = new StringBuilder();
+        XMLStreamReader reader = null;
+        try {
+            reader = XmlParts.INPUT_FACTORY.createXMLStreamReader(XmlParts.limited(part, maxPartBytes, "ODT"));
+            readText(reader, text);
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed ODT content: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private void readText(XMLStreamReader reader, StringBuilder text) throws XMLStreamException, IOException {
+        int paragraphDepth = 0;
+        int skipDepth = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (skipDepth > 0) {
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    skipDepth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    skipDepth--;
+                }
+                continue;
+            }
+
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    switch (reader.getLocalName()) {
+                        case "p", "h" -> paragraphDepth++;
+                        case "tab" -> text.append('\t');
+                        case "line-break" -> text.append('\n');
+                        // Runs of spaces are stored as one element with a count
+                        case "s" -> text.repeat(' ', spaceCount(reader));
+                        // Comments, footnote numbers and the removed text of tracked changes
+                        case "annotation", "note-citation", "tracked-changes" -> skipDepth = 1;
+                        default -> {
+                        }
+                    }
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    switch (reader.getLocalName()) {
+                        case "p", "h" -> {
+                            paragraphDepth--;
+                            text.append('\n');
+                        }
+                        case "table-row" -> text.append('\n');
+                        case "table-cell" -> text.append('\t');
+                        default -> {
+                        }
+                    }
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                    if (paragraphDepth > 0) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                }
+                default -> {
+                }
+            }
+            if (text.length() > maxChars) {
+                throw new ExtractionLimitException("ODT text exceeds the limit of " + maxChars + " characters");
+            }
+        }
+    }
+
+    private static int spaceCount(XMLStreamReader reader) {
+        // A null namespace matches text:c without spelling out the ODF namespace
+        String count = reader.getAttributeValue(null, "c");
+        try {
+            return count != null ? Math.max(1, Math.min(Integer.parseInt(count), 1000)) : 1;
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
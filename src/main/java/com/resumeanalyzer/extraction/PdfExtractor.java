@@ -0,0 +1,87 @@
+package com.resumeanalyzer.extraction;
+
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import com.resumeanalyzer.utils.TextNormalizer;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Set;
+
+@Component
+public class PdfExtractor implements TextExtractor {
+
+    @Autowired
+    private AnalysisMetrics metrics;
+
+    @Value("${analyzer.pdf.max-file-size:20MB}")
+    private DataSize maxFileSize;
+
+    @Value("${analyzer.pdf.max-pages:200}")
+    private int maxPages;
+
+    @Value("${analyzer.pdf.max-chars:1000000}")
+    private int maxChars;
+
+    // PDF bytes beyond this are buffered in a temp file instead of on the heap
+    @Value("${analyzer.pdf.max-main-memory-bytes:4194304}")
+    private long maxMainMemoryBytes;
+
+    @Override
+    public String getType() {
+        return "pdf";
+    }
+
+    @Override
+    public Set<String> getMediaTypes() {
+        return Set.of("application/pdf");
+    }
+
+    @Override
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    @Override
+    public String extract(InputStreamSource source) throws IOException {
+        MemoryUsageSetting memoryUsage = MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+        try (InputStream inputStream = source.getInputStream();
+             PDDocument document = PDDocument.load(inputStream, memoryUsage)) {
+            if (document.isEncrypted()) {
+                throw new IOException("PDF is encrypted and cannot be processed");
+            }
+
+            int pageCount = document.getNumberOfPages();
+            metrics.recordPageCount(pageCount);
+            if (pageCount > maxPages) {
+                throw new ExtractionLimitException("PDF has " + pageCount + " pages, the limit is " + maxPages);
+            }
+
+            PDFTextStripper stripper = new PDFTextStripper();
+
+            // Configure stripper to handle problematic characters better
+            stripper.setSortByPosition(true);
+            stripper.setAddMoreFormatting(false);
+
+            // Stream each page straight into the normalizer instead of building one big String;
+            // the writer aborts extraction as soon as the text grows past the character limit
+            TextNormalizer normalizer = new TextNormalizer(TextNormalizer.Mode.EXTRACTION);
+            Writer output = normalizer.asWriter(maxChars);
+            stripper.writeText(document, output);
+
+            return normalizer.finish();
+        } catch (ExtractionLimitException e) {
+            throw new ExtractionLimitException("Failed to extract text from PDF: " + e.getMessage());
+        } catch (IOException e) {
+            throw new IOException("Failed to extract text from PDF: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.resumeanalyzer.extraction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Plain text, and every other text/* type without an extractor of its own (CSV, Markdown, ...).
+ */
+@Component
+public class PlainTextExtractor implements TextExtractor {
+
+    @Value("${analyzer.text.max-file-size:5MB}")
+    private DataSize maxFileSize;
+
+    @Override
+    public String getType() {
+        return "text";
+    }
+
+    @Override
+    public Set<String> getMediaTypes() {
+        return Set.of("text/plain");
+    }
+
+    @Override
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    @Override
+    public boolean isTextual() {
+        return true;
+    }
+
+    @Override
+    public String extract(InputStreamSource source) throws IOException {
+        try (InputStream inputStream = source.getInputStream()) {
+            return decode(inputStream.readAllBytes()).trim();
+        } catch (IOException e) {
+            throw new IOException("Failed to extract text from file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes as UTF-8 unless a byte order mark says otherwise; the mark itself is dropped.
+     */
+    static String decode(byte[] bytes) {
+        Charset charset = StandardCharsets.UTF_8;
+        int offset = 0;
+        if (hasByteOrderMark(bytes)) {
+            if (bytes[0] == (byte) 0xFE) {
+                charset = StandardCharsets.UTF_16BE;
+            } else if (bytes[0] == (byte) 0xFF) {
+                charset = StandardCharsets.UTF_16LE;
+            }
+            offset = charset == StandardCharsets.UTF_8 ? 3 : 2;
+        }
+        return new String(bytes, offset, bytes.length - offset, charset);
+    }
+
+    static boolean hasByteOrderMark(byte[] bytes) {
+        return (bytes.length >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF)
+                || (bytes.length >= 2 && bytes[0] == (byte) 0xFE && bytes[1] == (byte) 0xFF)
+                || (bytes.length >= 2 && bytes[0] == (byte) 0xFF && bytes[1] == (byte) 0xFE);
+    }
+}
@@ -0,0 +1,58 @@
+package com.resumeanalyzer.extraction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.rtf.RTFEditorKit;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * RTF through the JDK's RTFEditorKit, which needs no extra dependency. It reads
+ * the text of common word processor output but ignores tables and embedded objects.
+ */
+@Component
+public class RtfExtractor implements TextExtractor {
+
+    @Value("${analyzer.rtf.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    @Override
+    public String getType() {
+        return "rtf";
+    }
+
+    @Override
+    public Set<String> getMediaTypes() {
+        return Set.of("application/rtf");
+    }
+
+    @Override
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    @Override
+    public boolean isTextual() {
+        // RTF is 7-bit ASCII; everything else is escaped
+        return true;
+    }
+
+    @Override
+    public String extract(InputStreamSource source) throws IOException {
+        RTFEditorKit kit = new RTFEditorKit();
+        Document document = kit.createDefaultDocument();
+        try (InputStream inputStream = source.getInputStream()) {
+            kit.read(inputStream, document, 0);
+            return document.getText(0, document.getLength()).trim();
+        } catch (IOException | BadLocationException | RuntimeException e) {
+            // The RTF parser reports some malformed input as runtime exceptions
+            throw new IOException("Failed to extract text from RTF: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.resumeanalyzer.extraction;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Reads the plain text of one document format. Implementations are Spring beans
+ * and are picked up by the {@link TextExtractorRegistry}, which chooses one by
+ * the media type sniffed from the file content.
+ */
+public interface TextExtractor {
+
+    /**
+     * Short name of the format ("pdf", "docx", ...), used to tag the extraction
+     * metrics and to pick the extraction permits.
+     */
+    String getType();
+
+    /**
+     * Media types this extractor reads. Subtypes (e.g. text/csv under text/plain)
+     * go to the extractor of their closest registered supertype.
+     */
+    Set<String> getMediaTypes();
+
+    /**
+     * Larger files are refused before parsing.
+     */
+    DataSize getMaxFileSize();
+
+    /**
+     * Whether the format is plain characters on disk. The head of such files is
+     * checked for binary content, since their media type can only be guessed
+     * from the file name.
+     */
+    default boolean isTextual() {
+        return false;
+    }
+
+    String extract(InputStreamSource source) throws IOException;
+}
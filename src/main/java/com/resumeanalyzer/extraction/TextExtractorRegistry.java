@@ -0,0 +1,98 @@
+package com.resumeanalyzer.extraction;
+
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.mime.MediaType;
+import org.apache.tika.mime.MediaTypeRegistry;
+import org.apache.tika.mime.MimeTypes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Picks the {@link TextExtractor} for a document. The media type is sniffed
+ * from the magic bytes with Tika's MIME database; the file name and the declared
+ * content type only refine it where the content is not specific, e.g. tell a
+ * DOCX from other ZIP files or CSV from plain text. The client's content type
+ * alone never decides the parser.
+ */
+@Component
+public class TextExtractorRegistry {
+
+    private static final MimeTypes MIME_TYPES = MimeTypes.getDefaultMimeTypes();
+
+    @Autowired
+    private List<TextExtractor> extractors;
+
+    private final Map<MediaType, TextExtractor> extractorsByMediaType = new HashMap<>();
+
+    @PostConstruct
+    public void initialize() {
+        for (TextExtractor extractor : extractors) {
+            for (String mediaType : extractor.getMediaTypes()) {
+                TextExtractor previous = extractorsByMediaType.putIfAbsent(MediaType.parse(mediaType), extractor);
+                if (previous != null) {
+                    throw new IllegalStateException("Media type " + mediaType + " is claimed by both "
+                            + previous.getType() + " and " + extractor.getType() + " extractors");
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of bytes from the start of a file that detection looks at.
+     */
+    public int getSniffLength() {
+        return MIME_TYPES.getMinLength();
+    }
+
+    public MediaType detect(byte[] head, String fileName, String contentType) throws IOException {
+        Metadata metadata = new Metadata();
+        if (fileName != null) {
+            metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
+        }
+        if (contentType != null) {
+            metadata.set(Metadata.CONTENT_TYPE, contentType);
+        }
+        return MIME_TYPES.detect(head != null ? new ByteArrayInputStream(head) : null, metadata);
+    }
+
+    /**
+     * Whether the head carries the signature of a known format, judged by the content alone.
+     * Arbitrary binary data does not, whatever its file name says.
+     */
+    public boolean hasSignature(byte[] head) throws IOException {
+        return !MediaType.OCTET_STREAM.equals(MIME_TYPES.detect(new ByteArrayInputStream(head), new Metadata()));
+    }
+
+    public Optional<TextExtractor> find(MediaType mediaType) {
+        MediaTypeRegistry registry = MIME_TYPES.getMediaTypeRegistry();
+        for (MediaType type = registry.normalize(mediaType.getBaseType()); type != null;
+             type = registry.getSupertype(type)) {
+            TextExtractor extractor = extractorsByMediaType.get(type);
+            if (extractor != null) {
+                return Optional.of(extractor);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether a file would get an extractor judging by its name and declared type only,
+     * e.g. to pick the resumes out of a ZIP upload before reading them.
+     */
+    public boolean isSupported(String fileName, String contentType) {
+        try {
+            return find(detect(null, fileName, contentType)).isPresent();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.resumeanalyzer.extraction;
+
+import javax.xml.stream.XMLInputFactory;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Shared plumbing for reading XML parts out of zipped office documents.
+ */
+final class XmlParts {
+
+    static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private XmlParts() {
+    }
+
+    /**
+     * Wraps an archive entry so that reading more than {@code limit} bytes fails, against ZIP bombs.
+     * Closing the returned stream leaves the archive open for the next entry.
+     */
+    static InputStream limited(InputStream part, long limit, String format) {
+        return new LimitedInputStream(part, limit, format);
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // Uploaded documents are untrusted: no DTDs, no external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private final String format;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit, String format) {
+            super(in);
+            this.limit = limit;
+            this.format = format;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void count(int bytes) throws IOException {
+            count += bytes;
+            if (count > limit) {
+                throw new ExtractionLimitException(format + " part is larger than " + limit + " bytes when uncompressed");
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.resumeanalyzer.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Sums the heap bytes allocated by the threads that run one request's work.
+ * The JVM only reports allocation for platform threads; work that runs on a
+ * virtual thread marks the sample incomplete instead of under-counting it.
+ */
+public final class AllocationTracker {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    static final AllocationTracker DISABLED = new AllocationTracker(false);
+
+    private final boolean enabled;
+    private final LongAdder allocatedBytes = new LongAdder();
+    private volatile boolean complete = true;
+
+    AllocationTracker(boolean enabled) {
+        this.enabled = enabled && THREADS != null;
+    }
+
+    public <T> T measure(Supplier<T> work) {
+        if (!enabled) {
+            return work.get();
+        }
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        try {
+            return work.get();
+        } finally {
+            add(before, THREADS.getCurrentThreadAllocatedBytes());
+        }
+    }
+
+    /**
+     * Wraps an executor so the allocation of every task it runs is counted.
+     */
+    public Executor instrument(Executor executor) {
+        if (!enabled) {
+            return executor;
+        }
+        return task -> executor.execute(() -> measure(() -> {
+            task.run();
+            return null;
+        }));
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    long allocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    private void add(long before, long after) {
+        if (before < 0 || after < 0) {
+            complete = false;
+        } else {
+            allocatedBytes.add(after - before);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,185 @@
+package com.resumeanalyzer.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters of the analysis pipeline: latency of text extraction per
+ * document type, of every NLP stage, of the database save and of ATS scoring,
+ * plus document size, page count, extraction failures and (optionally) the
+ * bytes allocated per analyzed resume. Percentile histograms for all of them are
+ * switched on in application.properties, which is what the p99 alerts are built on.
+ */
+@Component
+public class AnalysisMetrics {
+
+    static final String EXTRACTION = "resume.extraction";
+    static final String EXTRACTION_FAILURES = "resume.extraction.failures";
+    static final String EXTRACTION_FALLBACKS = "resume.extraction.fallbacks";
+    static final String EXTRACTION_WAIT = "resume.extraction.wait";
+    static final String EXTRACTION_REJECTED = "resume.extraction.rejected";
+    static final String EXTRACTION_MEMORY_AVAILABLE = "resume.extraction.memory.available";
+    static final String DOCUMENT_SIZE = "resume.document.size";
+    static final String DOCUMENT_CHARS = "resume.document.chars";
+    static final String DOCUMENT_PAGES = "resume.document.pages";
+    static final String STAGE = "resume.analysis.stage";
+    static final String ALLOCATED = "resume.analysis.allocated";
+    static final String PERSIST = "resume.persist";
+    static final String PERSIST_ROWS = "resume.persist.rows";
+    static final String ATS = "resume.ats";
+    static final String UPLOAD_QUEUE_WAIT = "resume.upload.queue.wait";
+    static final String UPLOAD_QUEUE_DEPTH = "resume.upload.queue.depth";
+    static final String UPLOAD_RUNNING = "resume.upload.running";
+    static final String UPLOAD_REJECTED = "resume.upload.rejected";
+
+    private final MeterRegistry registry;
+    private final boolean trackAllocation;
+
+    // Builders allocate on every call, so meters are looked up once per tag value
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AnalysisMetrics(MeterRegistry registry,
+                           @Value("${analyzer.metrics.thread-allocation:false}") boolean trackAllocation) {
+        this.registry = registry;
+        this.trackAllocation = trackAllocation;
+    }
+
+    public void recordExtraction(String type, long nanos, boolean succeeded) {
+        timer(EXTRACTION, "type", type, "outcome", succeeded ? "success" : "failure")
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (!succeeded) {
+            counter(EXTRACTION_FAILURES, "type", type).increment();
+        }
+    }
+
+    /**
+     * A document the fast extractor could not read, handed to the full parser instead.
+     */
+    public void recordExtractionFallback(String type) {
+        counter(EXTRACTION_FALLBACKS, "type", type).increment();
+    }
+
+    /**
+     * Time spent waiting for extraction permits.
+     */
+    public void recordExtractionWait(String type, long nanos) {
+        timer(EXTRACTION_WAIT, "type", type).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * An extraction refused by admission control; {@code reason} is "timeout" or "heap".
+     */
+    public void recordExtractionRejected(String type, String reason) {
+        counter(EXTRACTION_REJECTED, "type", type, "reason", reason).increment();
+    }
+
+    public void registerExtractionBudget(Semaphore memoryPermitsKb, int budgetKb) {
+        Gauge.builder(EXTRACTION_MEMORY_AVAILABLE, memoryPermitsKb, permits -> permits.availablePermits() * 1024.0)
+                .description("Unreserved part of the extraction memory budget (" + budgetKb + " KB)")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public void recordDocument(String type, long sizeBytes, int extractedChars) {
+        if (sizeBytes >= 0) {
+            summary(DOCUMENT_SIZE, "type", type, "bytes").record(sizeBytes);
+        }
+        summary(DOCUMENT_CHARS, "type", type, "chars").record(extractedChars);
+    }
+
+    public void recordPageCount(int pages) {
+        summary(DOCUMENT_PAGES, "type", "pdf", "pages").record(pages);
+    }
+
+    public void recordStages(Map<String, Duration> timings) {
+        timings.forEach((stage, duration) -> {
+            if (duration != null) {
+                timer(STAGE, "stage", stage).record(duration);
+            }
+        });
+    }
+
+    /**
+     * Times a repository save. {@code mode} is "single" or "batch"; {@code rows} is the number of resumes written.
+     */
+    public <T> T timePersist(String mode, int rows, Supplier<T> save) {
+        summary(PERSIST_ROWS, "mode", mode, "resumes").record(rows);
+        return timer(PERSIST, "mode", mode).record(save);
+    }
+
+    /**
+     * Times ATS work; {@code operation} is "analyze" for the full report or "score" for the score alone.
+     */
+    public <T> T timeAts(String operation, Supplier<T> scoring) {
+        return timer(ATS, "operation", operation).record(scoring);
+    }
+
+    /**
+     * Time an asynchronous upload spent queued before a worker picked it up.
+     */
+    public void recordQueueWait(String type, long nanos) {
+        timer(UPLOAD_QUEUE_WAIT, "type", type).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejectedUpload(String type) {
+        counter(UPLOAD_REJECTED, "type", type).increment();
+    }
+
+    public void registerUploadQueue(AtomicInteger queued, AtomicInteger running) {
+        Gauge.builder(UPLOAD_QUEUE_DEPTH, queued, AtomicInteger::get)
+                .description("Asynchronous uploads waiting for a worker")
+                .register(registry);
+        Gauge.builder(UPLOAD_RUNNING, running, AtomicInteger::get)
+                .description("Asynchronous uploads being analyzed")
+                .register(registry);
+    }
+
+    /**
+     * Starts counting the allocation of one request; a no-op unless analyzer.metrics.thread-allocation is set.
+     */
+    public AllocationTracker trackAllocation() {
+        return trackAllocation ? new AllocationTracker(true) : AllocationTracker.DISABLED;
+    }
+
+    public void recordAllocation(AllocationTracker tracker) {
+        if (tracker.isEnabled() && tracker.isComplete()) {
+            summary(ALLOCATED, "scope", "analysis", "bytes").record(tracker.allocatedBytes());
+        }
+    }
+
+    private Timer timer(String name, String... tags) {
+        return timers.computeIfAbsent(name + ":" + String.join(":", tags), key -> Timer.builder(name)
+                .tags(tags)
+                .register(registry));
+    }
+
+    private Counter counter(String name, String... tags) {
+        return counters.computeIfAbsent(name + ":" + String.join(":", tags), key -> Counter.builder(name)
+                .tags(tags)
+                .register(registry));
+    }
+
+    private DistributionSummary summary(String name, String tagKey, String tagValue, String unit) {
+        return summaries.computeIfAbsent(name + ":" + tagValue, key -> DistributionSummary.builder(name)
+                .baseUnit(unit)
+                .tag(tagKey, tagValue)
+                .register(registry));
+    }
+}
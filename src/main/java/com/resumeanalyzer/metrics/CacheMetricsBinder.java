@@ -0,0 +1,70 @@
+package com.resumeanalyzer.metrics;
+
+import com.resumeanalyzer.dto.CacheStatsResponse;
+import com.resumeanalyzer.service.JobProfileCache;
+import com.resumeanalyzer.service.ResumeAnalysisCache;
+import com.resumeanalyzer.service.ResumeFeatureCache;
+import com.resumeanalyzer.service.SkillIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Exposes the in-memory caches and the skill index as gauges, read when the registry is scraped.
+ */
+@Component
+public class CacheMetricsBinder implements MeterBinder {
+
+    @Autowired
+    private ResumeAnalysisCache analysisCache;
+
+    @Autowired
+    private JobProfileCache jobProfileCache;
+
+    @Autowired
+    private ResumeFeatureCache featureCache;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, "analysis", analysisCache, ResumeAnalysisCache::getStats);
+        bindCache(registry, "job-profile", jobProfileCache, JobProfileCache::getStats);
+        bindCache(registry, "resume-features", featureCache, ResumeFeatureCache::getStats);
+
+        Gauge.builder("resume.skill.index.resumes", skillIndex, SkillIndex::size)
+                .description("Resumes in the in-memory skill index")
+                .register(registry);
+        Gauge.builder("resume.skill.index.skills", skillIndex, SkillIndex::skillCount)
+                .description("Distinct skills in the in-memory skill index")
+                .register(registry);
+    }
+
+    // Meters hold their source weakly, so they read from the cache beans rather than from a lambda
+    private static <C> void bindCache(MeterRegistry registry, String cache, C source,
+                                      Function<C, CacheStatsResponse> stats) {
+        Gauge.builder("resume.cache.size", source, c -> stats.apply(c).getSize())
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("resume.cache.hit.ratio", source, c -> stats.apply(c).getHitRatio())
+                .tag("cache", cache)
+                .register(registry);
+        FunctionCounter.builder("resume.cache.requests", source, c -> stats.apply(c).getHits())
+                .tag("cache", cache)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("resume.cache.requests", source, c -> stats.apply(c).getMisses())
+                .tag("cache", cache)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("resume.cache.evictions", source, c -> stats.apply(c).getEvictions())
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDate;
 
 @Entity
@@ -14,7 +16,8 @@ import java.time.LocalDate;
 public class EducationExtraction {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "education_extraction_seq")
+    @SequenceGenerator(name = "education_extraction_seq", sequenceName = "education_extraction_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -37,5 +40,7 @@ public class EducationExtraction {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resume_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Resume resume;
 }
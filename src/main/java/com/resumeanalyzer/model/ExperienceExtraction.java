@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDate;
 
 @Entity
@@ -14,7 +16,8 @@ import java.time.LocalDate;
 public class ExperienceExtraction {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "experience_extraction_seq")
+    @SequenceGenerator(name = "experience_extraction_seq", sequenceName = "experience_extraction_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -39,5 +42,7 @@ public class ExperienceExtraction {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resume_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Resume resume;
 }
@@ -1,9 +1,12 @@
 package com.resumeanalyzer.model;
 
+import com.resumeanalyzer.nlp.skills.ExtractedSkills;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,7 +19,8 @@ import java.util.List;
 public class Resume {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_seq")
+    @SequenceGenerator(name = "resume_seq", sequenceName = "resume_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -25,12 +29,6 @@ public class Resume {
     @Column(nullable = false)
     private String fileType;
     
-    @Column(columnDefinition = "LONGTEXT")
-    private String originalText;
-    
-    @Column(columnDefinition = "LONGTEXT")
-    private String processedText;
-    
     private String fullName;
     private String email;
     private String phoneNumber;
@@ -50,6 +48,12 @@ public class Resume {
     @Column(columnDefinition = "JSON")
     private String skillsJson;
     
+    // Typed skills of the current analysis run; resumes loaded from the database only have skillsJson and the rows
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ExtractedSkills extractedSkills;
+    
     private Integer totalExperienceYears;
     private String seniority;
     private Double skillMatchScore;
@@ -57,6 +61,20 @@ public class Resume {
     @CreationTimestamp
     private LocalDateTime createdAt;
     
+    // Large text lives in its own table and is only loaded when read
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "content_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ResumeContent content;
+    
+    // Precomputed scoring input; see ResumeFeatureCache
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "features_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ResumeFeatures features;
+    
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<SkillExtraction> skillExtractions;
     
@@ -65,4 +83,27 @@ public class Resume {
     
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<EducationExtraction> educationExtractions;
+    
+    public String getOriginalText() {
+        return content != null ? content.getOriginalText() : null;
+    }
+    
+    public void setOriginalText(String originalText) {
+        contentForUpdate().setOriginalText(originalText);
+    }
+    
+    public String getProcessedText() {
+        return content != null ? content.getProcessedText() : null;
+    }
+    
+    public void setProcessedText(String processedText) {
+        contentForUpdate().setProcessedText(processedText);
+    }
+    
+    private ResumeContent contentForUpdate() {
+        if (content == null) {
+            content = new ResumeContent();
+        }
+        return content;
+    }
 }
@@ -0,0 +1,61 @@
+package com.resumeanalyzer.model;
+
+import com.resumeanalyzer.utils.TextCompression;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Raw and processed text of a resume, kept out of the resumes row and stored
+ * Deflate-compressed. Text is decompressed on first access and then kept for
+ * the lifetime of the entity instance.
+ */
+@Entity
+@Table(name = "resume_contents")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResumeContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_content_seq")
+    @SequenceGenerator(name = "resume_content_seq", sequenceName = "resume_content_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] originalTextCompressed;
+
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] processedTextCompressed;
+
+    @Transient
+    private String originalText;
+
+    @Transient
+    private String processedText;
+
+    public String getOriginalText() {
+        if (originalText == null) {
+            originalText = TextCompression.decompress(originalTextCompressed);
+        }
+        return originalText;
+    }
+
+    public void setOriginalText(String text) {
+        originalText = text;
+        originalTextCompressed = TextCompression.compress(text);
+    }
+
+    public String getProcessedText() {
+        if (processedText == null) {
+            processedText = TextCompression.decompress(processedTextCompressed);
+        }
+        return processedText;
+    }
+
+    public void setProcessedText(String text) {
+        processedText = text;
+        processedTextCompressed = TextCompression.compress(text);
+    }
+}
@@ -0,0 +1,63 @@
+package com.resumeanalyzer.model;
+
+import com.resumeanalyzer.nlp.features.FeatureVector;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Stored form of a resume's {@link FeatureVector}, in its own table so that
+ * scoring never loads the text and listings never load the vector.
+ */
+@Entity
+@Table(name = "resume_features")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResumeFeatures {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_features_seq")
+    @SequenceGenerator(name = "resume_features_seq", sequenceName = "resume_features_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    // Term ids of the ATS vocabulary, encoded like the skill ids
+    @Column(columnDefinition = "BLOB")
+    private byte[] keywordTerms;
+
+    @Column(columnDefinition = "BLOB")
+    private byte[] skillTerms;
+
+    // Null when no experience was found
+    private Integer experienceMonths;
+
+    @Column(columnDefinition = "BLOB")
+    private byte[] skillIds;
+
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] termHashes;
+
+    public static ResumeFeatures of(FeatureVector vector) {
+        ResumeFeatures features = new ResumeFeatures();
+        features.update(vector);
+        return features;
+    }
+
+    public void update(FeatureVector vector) {
+        version = vector.getVersion();
+        keywordTerms = vector.getKeywords().encode();
+        skillTerms = vector.getSkills().encode();
+        experienceMonths = vector.hasExperience() ? vector.getExperienceMonths() : null;
+        skillIds = vector.encodeSkillIds();
+        termHashes = vector.encodeTermHashes();
+    }
+
+    public FeatureVector toVector() {
+        return FeatureVector.decode(version, keywordTerms, skillTerms,
+                experienceMonths != null ? experienceMonths : FeatureVector.NO_EXPERIENCE, skillIds, termHashes);
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Entity
 @Table(name = "skill_extractions")
@@ -13,7 +15,8 @@ import lombok.AllArgsConstructor;
 public class SkillExtraction {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_extraction_seq")
+    @SequenceGenerator(name = "skill_extraction_seq", sequenceName = "skill_extraction_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -28,5 +31,7 @@ public class SkillExtraction {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resume_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Resume resume;
 }
@@ -1,20 +1,34 @@
 package com.resumeanalyzer.nlp;
 
+import com.resumeanalyzer.metrics.AllocationTracker;
+import com.resumeanalyzer.metrics.AnalysisMetrics;
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.document.SectionSegmenter;
+import com.resumeanalyzer.nlp.features.FeatureVector;
 import com.resumeanalyzer.nlp.processors.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.Executor;
 
 @Component
 public class NLPProcessor {
 
+    private static final Logger log = LoggerFactory.getLogger(NLPProcessor.class);
+
     @Autowired
     private TextPreProcessor textPreProcessor;
 
+    @Autowired
+    private SectionSegmenter sectionSegmenter;
+
     @Autowired
     private PersonalInfoProcessor personalInfoProcessor;
 
@@ -30,75 +44,95 @@ public class NLPProcessor {
     @Autowired
     private SummaryProcessor summaryProcessor;
 
+    @Autowired
+    private FeatureProcessor featureProcessor;
+
+    @Autowired
+    @Qualifier("nlpStageExecutor")
+    private Executor stageExecutor;
+
+    @Autowired
+    private AnalysisMetrics metrics;
+
     @PostConstruct
     public void initializeProcessor() {
-        System.out.println("🔧 Initializing lightweight NLP processor...");
-        System.out.println("✅ Using OpenNLP and pattern-based processing for better performance");
-        System.out.println("✅ No heavy dependencies - faster startup and processing");
+        log.info("NLP processor initialized (OpenNLP tokenizer with pattern-based extractors)");
     }
 
-    public void processResume(Resume resume) {
+    /**
+     * Runs the extraction pipeline and returns the wall time of each stage, which is also recorded in the metrics.
+     */
+    public Map<String, Duration> processResume(Resume resume) {
         String text = resume.getOriginalText();
         if (text == null || text.trim().isEmpty()) {
-            return;
+            return Map.of();
         }
 
-        // 1. Clean and preprocess text
-        String cleanedText = textPreProcessor.preprocessText(text);
-        resume.setProcessedText(cleanedText);
-
-        // 2. Extract personal information using enhanced pattern matching
-        personalInfoProcessor.extractPersonalInfo(resume, cleanedText);
-        
-        // 3. Extract skills with pattern-based processing
-        skillsProcessor.extractSkills(resume, cleanedText);
-        
-        // 4. Calculate experience with improved parsing
-        experienceProcessor.calculateExperience(resume, cleanedText);
+        AllocationTracker allocation = metrics.trackAllocation();
         
-        // 5. Extract education information
-        educationProcessor.extractEducation(resume, cleanedText);
-        
-        // 6. Generate summary
-        summaryProcessor.generateSummary(resume, cleanedText);
+        // 1. Clean and preprocess text, then lowercase, split into lines and find the sections once for all stages
+        long preprocessStart = System.nanoTime();
+        ParsedDocument document = allocation.measure(() -> ParsedDocument.parse(textPreProcessor.preprocessText(text), sectionSegmenter));
+        resume.setProcessedText(document.getText());
+        Duration preprocessTime = Duration.ofNanos(System.nanoTime() - preprocessStart);
+
+        // 2-5. The extractors write disjoint Resume fields and run concurrently;
+        // 6. the summary reads experience, seniority and skills, so it waits for those stages;
+        // 7. so does the feature vector
+        Map<String, Duration> timings = new LinkedHashMap<>();
+        timings.put("preprocess", preprocessTime);
+        timings.putAll(new StageScheduler(allocation.instrument(stageExecutor))
+                .stage("personalInfo", () -> personalInfoProcessor.extractPersonalInfo(resume, document))
+                .stage("skills", () -> skillsProcessor.extractSkills(resume, document))
+                .stage("experience", () -> experienceProcessor.calculateExperience(resume, document))
+                .stage("education", () -> educationProcessor.extractEducation(resume, document))
+                .stage("summary", () -> summaryProcessor.generateSummary(resume, document), "skills", "experience")
+                .stage("features", () -> featureProcessor.computeFeatures(resume, document), "skills", "experience")
+                .run());
+        metrics.recordStages(timings);
+        metrics.recordAllocation(allocation);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Processed {} ({} chars) stage timings: {}", resume.getFileName(), document.length(), timings);
+        }
+        return timings;
     }
 
-    public Double calculateSkillMatch(Resume resume, List<String> requiredSkills) {
+    /**
+     * Average confidence of the required skills, each either a dictionary skill of the resume
+     * or a phrase of its text; reads only the feature vector.
+     */
+    public Double calculateSkillMatch(FeatureVector features, List<String> requiredSkills) {
         if (requiredSkills == null || requiredSkills.isEmpty()) {
             return 0.0;
         }
 
-        String resumeText = resume.getOriginalText().toLowerCase();
         double totalScore = 0.0;
 
         for (String skill : requiredSkills) {
             String lowerSkill = skill.toLowerCase();
-            if (isSkillPresentInContext(resumeText, lowerSkill)) {
+            if (isSkillPresent(features, lowerSkill)) {
                 // Use a simple confidence calculation here
-                double confidence = calculateBasicSkillConfidence(resume.getOriginalText(), skill);
+                double confidence = calculateBasicSkillConfidence(features, lowerSkill);
                 totalScore += confidence;
             }
         }
 
         // Return weighted average
-        return requiredSkills.size() > 0 ? totalScore / requiredSkills.size() : 0.0;
+        return totalScore / requiredSkills.size();
     }
 
-    private boolean isSkillPresentInContext(String text, String skill) {
-        // Look for skill with word boundaries and context
-        Pattern skillPattern = Pattern.compile("\\b" + Pattern.quote(skill) + "\\b", Pattern.CASE_INSENSITIVE);
-        return skillPattern.matcher(text).find();
+    private boolean isSkillPresent(FeatureVector features, String lowerSkill) {
+        int skillId = skillsProcessor.skillIdOf(lowerSkill);
+        return (skillId >= 0 && features.hasSkill(skillId)) || features.containsPhrase(lowerSkill);
     }
 
-    private double calculateBasicSkillConfidence(String text, String skill) {
-        String lowerText = text.toLowerCase();
-        String lowerSkill = skill.toLowerCase();
-        
+    private double calculateBasicSkillConfidence(FeatureVector features, String lowerSkill) {
         double confidence = 0.6; // Base confidence
         
         // Increase confidence based on context
-        if (lowerText.contains("experience " + lowerSkill) || 
-            lowerText.contains(lowerSkill + " experience")) {
+        if (features.containsPhrase("experience " + lowerSkill) || 
+            features.containsPhrase(lowerSkill + " experience")) {
             confidence += 0.2;
         }
         
@@ -0,0 +1,87 @@
+package com.resumeanalyzer.nlp;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs named stages on an executor as soon as the stages they depend on have
+ * finished. Stages without a dependency between them run concurrently; with a
+ * direct executor everything runs on the calling thread in declaration order.
+ */
+public class StageScheduler {
+
+    private final Executor executor;
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+
+    public StageScheduler(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Declares a stage. Dependencies must have been declared before, which keeps the graph acyclic.
+     */
+    public StageScheduler stage(String name, Runnable action, String... dependsOn) {
+        if (stages.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate stage: " + name);
+        }
+        for (String dependency : dependsOn) {
+            if (!stages.containsKey(dependency)) {
+                throw new IllegalArgumentException("Stage " + name + " depends on undeclared stage " + dependency);
+            }
+        }
+        stages.put(name, new Stage(action, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Runs all stages and waits for them. Returns the wall time of each stage in declaration order.
+     * If a stage fails, its dependents are skipped and the first failure is rethrown.
+     */
+    public Map<String, Duration> run() {
+        Map<String, Duration> timings = new ConcurrentHashMap<>();
+        Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+
+        for (Map.Entry<String, Stage> entry : stages.entrySet()) {
+            String name = entry.getKey();
+            Stage stage = entry.getValue();
+            CompletableFuture<?>[] dependencies = stage.dependsOn().stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture<Void> future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                long start = System.nanoTime();
+                try {
+                    stage.action().run();
+                } finally {
+                    timings.put(name, Duration.ofNanos(System.nanoTime() - start));
+                }
+            }, executor);
+            futures.put(name, future);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Pipeline stage failed: " + cause.getMessage(), cause);
+        }
+
+        Map<String, Duration> ordered = new LinkedHashMap<>();
+        for (String name : stages.keySet()) {
+            ordered.put(name, timings.get(name));
+        }
+        return ordered;
+    }
+
+    private record Stage(Runnable action, List<String> dependsOn) {
+    }
+}
@@ -0,0 +1,261 @@
+package com.resumeanalyzer.nlp.document;
+
+import opennlp.tools.tokenize.SimpleTokenizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One preprocessed resume as every analysis stage sees it: the text, a
+ * lowercased copy of the same length, line and token offsets and the labelled
+ * sections found by a {@link SectionSegmenter}. It is built once per resume and
+ * shared by the concurrently running processors, which read lines, tokens and
+ * lowercase views through offsets instead of splitting or lowercasing the text
+ * themselves, and which look only at the sections relevant to them through
+ * {@link #scope}. Instances are immutable apart from the lazily computed tokens.
+ */
+public final class ParsedDocument {
+
+    private static final int[] NO_OFFSETS = new int[0];
+
+    private final String text;
+    private final String lowerText;
+    private final int[] lineStarts;
+    private final List<Section> sections;
+
+    private volatile Tokens tokens;
+
+    private ParsedDocument(String text, SectionSegmenter segmenter) {
+        this.text = text;
+        this.lowerText = lowerCase(text);
+        this.lineStarts = lineStarts(text);
+        // The segmenter reads the text and lines, which are set by now
+        this.sections = segmenter != null ? List.copyOf(segmenter.segment(this)) : List.of();
+    }
+
+    /**
+     * Builds the document of an already preprocessed text without looking for sections,
+     * so every {@link #scope} is the whole document.
+     */
+    public static ParsedDocument parse(String text) {
+        return parse(text, null);
+    }
+
+    /**
+     * Builds the document of an already preprocessed text and splits it into sections.
+     */
+    public static ParsedDocument parse(String text, SectionSegmenter segmenter) {
+        return new ParsedDocument(text != null ? text : "", segmenter);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * The text lowercased character by character, so offsets into the text are offsets into this too.
+     */
+    public String getLowerText() {
+        return lowerText;
+    }
+
+    public int length() {
+        return text.length();
+    }
+
+    public boolean isEmpty() {
+        return text.isEmpty();
+    }
+
+    /**
+     * Whether a lowercase term occurs anywhere in the text, ignoring case.
+     */
+    public boolean contains(String lowerTerm) {
+        return lowerText.contains(lowerTerm);
+    }
+
+    public int lineCount() {
+        return lineStarts.length;
+    }
+
+    public int lineStart(int line) {
+        return lineStarts[line];
+    }
+
+    /**
+     * Offset of the line's terminating newline, or the text length for the last line.
+     */
+    public int lineEnd(int line) {
+        return line + 1 < lineStarts.length ? lineStarts[line + 1] - 1 : text.length();
+    }
+
+    public String line(int line) {
+        return text.substring(lineStart(line), lineEnd(line));
+    }
+
+    public String lowerLine(int line) {
+        return lowerText.substring(lineStart(line), lineEnd(line));
+    }
+
+    /**
+     * Whether a lowercase term occurs within the line, ignoring case; reads only the line.
+     */
+    public boolean lineContains(int line, String lowerTerm) {
+        return lowerText.indexOf(lowerTerm, lineStart(line), lineEnd(line)) >= 0;
+    }
+
+    /**
+     * Whether a lowercase term occurs within one of the spans, ignoring case; reads only the spans.
+     */
+    public boolean contains(String lowerTerm, List<Span> scope) {
+        for (Span span : scope) {
+            if (lowerText.indexOf(lowerTerm, span.start(), span.end()) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isBlankLine(int line) {
+        for (int i = lineStart(line); i < lineEnd(line); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The span from the start of one line to the end of another, end-exclusive.
+     */
+    public Span span(int firstLine, int endLine) {
+        int start = firstLine < lineStarts.length ? lineStarts[firstLine] : text.length();
+        int end = endLine < lineStarts.length ? lineStarts[endLine] : text.length();
+        return new Span(firstLine, endLine, start, end);
+    }
+
+    public Span whole() {
+        return span(0, lineStarts.length);
+    }
+
+    /**
+     * Number of OpenNLP {@link SimpleTokenizer} tokens; the tokens are computed on first use.
+     */
+    public int tokenCount() {
+        return tokens().starts.length;
+    }
+
+    public int tokenStart(int token) {
+        return tokens().starts[token];
+    }
+
+    public int tokenEnd(int token) {
+        return tokens().ends[token];
+    }
+
+    public String token(int token) {
+        Tokens all = tokens();
+        return text.substring(all.starts[token], all.ends[token]);
+    }
+
+    /**
+     * Sections in document order, covering the whole document; empty when no heading was found.
+     */
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    public boolean hasSection(SectionType type) {
+        return sections.stream().anyMatch(section -> section.type() == type);
+    }
+
+    /**
+     * The parts of the document a processor should read: the sections of the given types in document
+     * order, adjacent ones merged, or the whole document when it has no section of these types.
+     */
+    public List<Span> scope(Set<SectionType> types) {
+        List<Span> spans = new ArrayList<>();
+        for (Section section : sections) {
+            if (!types.contains(section.type())) {
+                continue;
+            }
+            Span span = section.span();
+            int last = spans.size() - 1;
+            if (last >= 0 && spans.get(last).end() == span.start()) {
+                spans.set(last, span(spans.get(last).firstLine(), span.endLine()));
+            } else {
+                spans.add(span);
+            }
+        }
+        return spans.isEmpty() ? List.of(whole()) : spans;
+    }
+
+    private Tokens tokens() {
+        Tokens current = tokens;
+        if (current == null) {
+            // Computing the tokens twice under contention is harmless; both results are equal
+            opennlp.tools.util.Span[] spans = SimpleTokenizer.INSTANCE.tokenizePos(text);
+            int[] starts = new int[spans.length];
+            int[] ends = new int[spans.length];
+            for (int i = 0; i < spans.length; i++) {
+                starts[i] = spans[i].getStart();
+                ends[i] = spans[i].getEnd();
+            }
+            current = new Tokens(starts, ends);
+            tokens = current;
+        }
+        return current;
+    }
+
+    private static String lowerCase(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.length() == text.length()) {
+            return lower;
+        }
+        // A few characters (e.g. the dotted capital I) lowercase to two; keep the offsets aligned
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static int[] lineStarts(String text) {
+        if (text.isEmpty()) {
+            return NO_OFFSETS;
+        }
+        int[] starts = new int[16];
+        int count = 0;
+        starts[count++] = 0;
+        for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', i + 1)) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+            }
+            starts[count++] = i + 1;
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * Whole lines of the document: line numbers and character offsets into the text, both end-exclusive.
+     */
+    public record Span(int firstLine, int endLine, int start, int end) {
+
+        public int length() {
+            return end - start;
+        }
+    }
+
+    /**
+     * A heading and the lines up to the next heading, the heading line included. The contact
+     * block above the first heading has an empty heading.
+     */
+    public record Section(SectionType type, String heading, Span span) {
+    }
+
+    private record Tokens(int[] starts, int[] ends) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.resumeanalyzer.nlp.document;
+
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import com.resumeanalyzer.utils.RegexPatterns;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a resume into labelled sections at its heading lines. A heading is a
+ * short line that is a known heading of the taxonomy ("Work Experience",
+ * "EDUCATION:"), a known heading followed by a colon and the section's first
+ * content ("Skills: Java, SQL"), or a line laid out as a heading, in capitals or
+ * ending in a colon, whose last word is a known heading ("RELEVANT WORK
+ * EXPERIENCE"). Other lines, including capitalized company names or job titles,
+ * never end a section; headings the taxonomy does not know are added there.
+ *
+ * Text above the first heading becomes the {@link SectionType#CONTACT} section.
+ * A resume without headings has no sections.
+ */
+@Component
+public class SectionSegmenter {
+
+    private static final int MAX_HEADING_LENGTH = 40;
+    private static final int MAX_HEADING_WORDS = 4;
+
+    // Bullets, rules and other decoration around a heading
+    private static final Pattern DECORATION = Pattern.compile("^[^\\p{L}]+|[^\\p{L}]+$");
+
+    @Autowired
+    private SkillTaxonomyProvider taxonomies;
+
+    public List<ParsedDocument.Section> segment(ParsedDocument document) {
+        SkillTaxonomy taxonomy = taxonomies.current();
+        List<ParsedDocument.Section> sections = new ArrayList<>();
+        int headingLine = -1;
+        SectionType headingType = null;
+        String heading = null;
+        for (int line = 0; line < document.lineCount(); line++) {
+            Heading found = headingOf(document, line, taxonomy, headingType);
+            if (found == null) {
+                continue;
+            }
+            if (headingLine >= 0) {
+                sections.add(new ParsedDocument.Section(headingType, heading, document.span(headingLine, line)));
+            } else if (hasContent(document, 0, line)) {
+                sections.add(new ParsedDocument.Section(SectionType.CONTACT, "", document.span(0, line)));
+            }
+            headingLine = line;
+            headingType = found.type();
+            heading = found.text();
+        }
+        if (headingLine >= 0) {
+            sections.add(new ParsedDocument.Section(headingType, heading,
+                    document.span(headingLine, document.lineCount())));
+        }
+        return sections;
+    }
+
+    private Heading headingOf(ParsedDocument document, int lineIndex, SkillTaxonomy taxonomy,
+                              SectionType currentType) {
+        String text = document.getText();
+        int start = document.lineStart(lineIndex);
+        int end = document.lineEnd(lineIndex);
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        // "Skills: Java, Spring" starts the skills section with its first line of content;
+        // only the prefix is read, so long content lines are never copied
+        int colon = text.indexOf(':', start, Math.min(end - 1, start + MAX_HEADING_LENGTH + 1));
+        if (colon > start) {
+            String prefix = text.substring(start, colon).trim();
+            SectionType type = taxonomy.sectionOf(normalize(prefix));
+            // "Technologies: ..." under a job or project lists its stack and does not end the entry
+            if (type == null || (type == SectionType.SKILLS
+                    && (currentType == SectionType.EXPERIENCE || currentType == SectionType.PROJECTS))) {
+                return null;
+            }
+            return new Heading(type, prefix);
+        }
+
+        if (end - start > MAX_HEADING_LENGTH) {
+            return null;
+        }
+        String line = text.substring(start, end);
+        String normalized = normalize(line);
+        SectionType type = taxonomy.sectionOf(normalized);
+        if (type != null) {
+            return new Heading(type, line);
+        }
+
+        String[] words = normalized.isEmpty() ? new String[0] : normalized.split(" ");
+        if (words.length == 0 || words.length > MAX_HEADING_WORDS || !isHeadingText(line)
+                || !(isCapitals(line) || line.endsWith(":"))) {
+            return null;
+        }
+        SectionType lastWordType = taxonomy.sectionOf(words[words.length - 1]);
+        return lastWordType != null ? new Heading(lastWordType, line) : null;
+    }
+
+    private static boolean hasContent(ParsedDocument document, int firstLine, int endLine) {
+        for (int line = firstLine; line < endLine; line++) {
+            if (!document.isBlankLine(line)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Lowercase words without decoration, "&" read as "and"
+    private static String normalize(String heading) {
+        String words = DECORATION.matcher(heading).replaceAll("").replace("&", " and ");
+        return RegexPatterns.WHITESPACE.matcher(words.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    // Dates, addresses, e-mail addresses, links and enumerations are content, not headings
+    private static boolean isHeadingText(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isDigit(c) || c == '@' || c == '/' || c == '.' || c == ',' || c == '|') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCapitals(String line) {
+        int letters = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isLowerCase(c)) {
+                return false;
+            }
+            if (Character.isLetter(c)) {
+                letters++;
+            }
+        }
+        return letters >= 2;
+    }
+
+    private record Heading(SectionType type, String text) {
+    }
+}
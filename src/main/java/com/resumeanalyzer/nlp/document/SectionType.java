@@ -0,0 +1,18 @@
+package com.resumeanalyzer.nlp.document;
+
+/**
+ * What a section of a resume holds, as told by its heading. Text above the first
+ * heading is taken to be the contact block.
+ */
+public enum SectionType {
+    CONTACT,
+    SUMMARY,
+    EXPERIENCE,
+    EDUCATION,
+    SKILLS,
+    PROJECTS,
+    /**
+     * Any other heading, e.g. certifications or interests; it ends the section before it.
+     */
+    OTHER
+}
@@ -0,0 +1,146 @@
+package com.resumeanalyzer.nlp.features;
+
+import com.resumeanalyzer.nlp.matcher.KeywordMatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * The terms ATS scoring looks for. Job profiles record which of them a job
+ * description mentions and feature vectors which of them a resume covers, each
+ * as a {@link TermMask} indexed by the term's position, so comparing the two
+ * takes an AND and a bit count per 64 terms instead of a scan of the resume text.
+ *
+ * Skill names are compared in their canonical form, and the vocabulary skills a
+ * name covers are worked out once per distinct name, so matching a resume's
+ * skills is one hash lookup per skill. Each instance belongs to one
+ * {@link com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy} snapshot.
+ */
+public final class AtsVocabulary {
+
+    private final List<String> keywords;
+    private final List<String> skills;
+    private final UnaryOperator<String> canonicalizer;
+    private final Map<String, List<String>> impliedSkills;
+
+    // Term ids are the positions in skills, i.e. the mask bits
+    private final KeywordMatcher skillMatcher;
+
+    // Alternative spellings of vocabulary skills, e.g. "k8s"; their term ids map to skill ids through aliasSkills
+    private final KeywordMatcher aliasMatcher;
+    private final int[] aliasSkills;
+
+    // Vocabulary skills covered by each canonical skill name seen so far; names come from the skill dictionary
+    private final Map<String, TermMask> skillNameMasks = new ConcurrentHashMap<>();
+
+    /**
+     * @param keywords      lowercase keywords
+     * @param skills        lowercase canonical skill names
+     * @param aliases       alternative spelling to canonical name, lowercase
+     * @param canonicalizer maps any skill name to its canonical form
+     * @param impliedSkills canonical skill name to the vocabulary skills it implies although its name does not contain them
+     */
+    public AtsVocabulary(List<String> keywords, List<String> skills, Map<String, String> aliases,
+                         UnaryOperator<String> canonicalizer, Map<String, List<String>> impliedSkills) {
+        this.keywords = List.copyOf(keywords);
+        this.skills = List.copyOf(skills);
+        this.canonicalizer = canonicalizer;
+        this.impliedSkills = Map.copyOf(impliedSkills);
+        this.skillMatcher = KeywordMatcher.of(this.skills);
+
+        KeywordMatcher.Builder aliasTerms = KeywordMatcher.builder();
+        List<Integer> aliasSkills = new ArrayList<>();
+        for (Map.Entry<String, String> alias : aliases.entrySet()) {
+            int skill = skillMatcher.idOf(alias.getValue());
+            if (skill >= 0) {
+                aliasTerms.add(alias.getKey());
+                aliasSkills.add(skill);
+            }
+        }
+        this.aliasMatcher = aliasTerms.build();
+        this.aliasSkills = aliasSkills.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Keywords that occur anywhere in the lowercased text, substrings included.
+     */
+    public TermMask keywordMask(String lowerText) {
+        return containedMask(lowerText, keywords).build();
+    }
+
+    /**
+     * Skills that occur anywhere in the lowercased text, substrings included, or
+     * whose aliases occur in it as whole words.
+     */
+    public TermMask skillMask(String lowerText) {
+        TermMask.Builder mask = containedMask(lowerText, skills);
+        aliasMatcher.scan(lowerText, (termId, start, end) -> mask.add(aliasSkills[termId]));
+        return mask.build();
+    }
+
+    /**
+     * Skills covered by a resume's extracted skills. A vocabulary skill is covered by a
+     * skill name whose canonical form is the skill itself or contains it as whole words,
+     * e.g. "spring" by "Spring Boot" and ".net" by "ASP.NET", but not "java" by "JavaScript",
+     * or which it implies, e.g. "sql" by "MySQL".
+     */
+    public TermMask skillMatchMask(Collection<String> skillNames) {
+        TermMask.Builder mask = TermMask.builder();
+        for (String name : skillNames) {
+            mask.addAll(skillNameMasks.computeIfAbsent(canonicalizer.apply(name), this::coveredSkills));
+        }
+        return mask.build();
+    }
+
+    public int skillCount() {
+        return skills.size();
+    }
+
+    public int keywordCount() {
+        return keywords.size();
+    }
+
+    public List<String> keywords(TermMask mask) {
+        return termsIn(mask, keywords);
+    }
+
+    public List<String> skills(TermMask mask) {
+        return termsIn(mask, skills);
+    }
+
+    private TermMask coveredSkills(String canonicalName) {
+        TermMask.Builder mask = TermMask.builder();
+        skillMatcher.scan(canonicalName, (termId, start, end) -> mask.add(termId));
+        for (String implied : impliedSkills.getOrDefault(canonicalName, List.of())) {
+            int skill = skillMatcher.idOf(implied);
+            if (skill >= 0) {
+                mask.add(skill);
+            }
+        }
+        return mask.build();
+    }
+
+    private static TermMask.Builder containedMask(String lowerText, List<String> terms) {
+        TermMask.Builder mask = TermMask.builder();
+        for (int i = 0; i < terms.size(); i++) {
+            if (lowerText.contains(terms.get(i))) {
+                mask.add(i);
+            }
+        }
+        return mask;
+    }
+
+    // In vocabulary order
+    private static List<String> termsIn(TermMask mask, List<String> terms) {
+        int[] termIds = mask.termIds();
+        List<String> found = new ArrayList<>(termIds.length);
+        for (int termId : termIds) {
+            found.add(terms.get(termId));
+        }
+        return found;
+    }
+}
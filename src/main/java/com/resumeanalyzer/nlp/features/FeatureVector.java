@@ -0,0 +1,110 @@
+package com.resumeanalyzer.nlp.features;
+
+import java.util.Arrays;
+
+/**
+ * What scoring needs from one resume, computed once at analysis time: which ATS
+ * vocabulary keywords and skills it covers, its dictionary skill ids, its total
+ * experience and the hashed n-grams of its text. Immutable, so one instance is
+ * shared by concurrent scorers.
+ */
+public final class FeatureVector {
+
+    public static final int NO_EXPERIENCE = -1;
+
+    private final int version;
+    private final TermMask keywords;
+    private final TermMask skills;
+    private final int experienceMonths;
+    private final int[] skillIds;
+    private final int[] termHashes;
+
+    /**
+     * @param version          {@link com.resumeanalyzer.nlp.processors.FeatureProcessor#getVersion() version}
+     *                         of the vocabulary and dictionary the vector was built with
+     * @param experienceMonths total experience in months, {@link #NO_EXPERIENCE} if none was found
+     * @param skillIds         sorted dictionary skill ids
+     * @param termHashes       sorted {@link TermHashes#ofText n-gram hashes}
+     */
+    public FeatureVector(int version, TermMask keywords, TermMask skills, int experienceMonths,
+                         int[] skillIds, int[] termHashes) {
+        this.version = version;
+        this.keywords = keywords;
+        this.skills = skills;
+        this.experienceMonths = experienceMonths;
+        this.skillIds = skillIds;
+        this.termHashes = termHashes;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * {@link AtsVocabulary} keywords occurring in the text.
+     */
+    public TermMask getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * {@link AtsVocabulary} skills matched by the extracted skills.
+     */
+    public TermMask getSkills() {
+        return skills;
+    }
+
+    public boolean hasExperience() {
+        return experienceMonths != NO_EXPERIENCE;
+    }
+
+    public int getExperienceMonths() {
+        return Math.max(0, experienceMonths);
+    }
+
+    public int skillCount() {
+        return skillIds.length;
+    }
+
+    public boolean hasSkill(int skillId) {
+        return Arrays.binarySearch(skillIds, skillId) >= 0;
+    }
+
+    /**
+     * Whether the lowercased phrase occurs as a sequence of whole words. Phrases longer than
+     * {@link TermHashes#MAX_NGRAM} words match when all of their word windows occur.
+     */
+    public boolean containsPhrase(String lowerPhrase) {
+        int[] hashes = TermHashes.ofPhrase(lowerPhrase);
+        if (hashes.length == 0) {
+            return false;
+        }
+        for (int hash : hashes) {
+            if (Arrays.binarySearch(termHashes, hash) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int termCount() {
+        return termHashes.length;
+    }
+
+    public byte[] encodeSkillIds() {
+        return TermHashes.encode(skillIds);
+    }
+
+    public byte[] encodeTermHashes() {
+        return TermHashes.encode(termHashes);
+    }
+
+    /**
+     * Rebuilds a vector from its stored form.
+     */
+    public static FeatureVector decode(int version, byte[] keywords, byte[] skills, int experienceMonths,
+                                       byte[] skillIds, byte[] termHashes) {
+        return new FeatureVector(version, TermMask.decode(keywords), TermMask.decode(skills), experienceMonths,
+                TermHashes.decode(skillIds), TermHashes.decode(termHashes));
+    }
+}
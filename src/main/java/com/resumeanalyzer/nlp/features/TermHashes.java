@@ -0,0 +1,184 @@
+package com.resumeanalyzer.nlp.features;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Hashed word n-grams of a text, so that a phrase can be looked up in a resume
+ * without its text. Tokens are runs of letters, digits and the characters
+ * {@code + # .} that occur in skill names (c++, c#, node.js), with trailing
+ * dots dropped; everything else separates tokens. Phrases are tokenized the
+ * same way as the text, so "Spring-Boot" and "spring boot" hash alike.
+ * <p>
+ * The hash values are persisted: changing the tokenizer or the hash function
+ * requires bumping {@link #VERSION}.
+ */
+public final class TermHashes {
+
+    public static final int VERSION = 1;
+
+    // Longest phrase stored as a single hash; longer phrases are checked window by window
+    public static final int MAX_NGRAM = 3;
+
+    private static final int[] EMPTY = new int[0];
+
+    private TermHashes() {
+    }
+
+    /**
+     * Sorted, distinct hashes of every 1- to {@link #MAX_NGRAM}-gram of the lowercased text.
+     */
+    public static int[] ofText(String lowerText) {
+        int[] tokens = tokenHashes(lowerText);
+        if (tokens.length == 0) {
+            return EMPTY;
+        }
+        int[] hashes = new int[tokens.length * MAX_NGRAM];
+        int count = 0;
+        for (int start = 0; start < tokens.length; start++) {
+            int hash = 0;
+            for (int n = 0; n < MAX_NGRAM && start + n < tokens.length; n++) {
+                hash = combine(hash, tokens[start + n]);
+                hashes[count++] = finish(hash, n + 1);
+            }
+        }
+        return distinctSorted(hashes, count);
+    }
+
+    /**
+     * Hashes that must all be present for the lowercased phrase to occur: a single hash for phrases of up to
+     * {@link #MAX_NGRAM} words, one per window of {@link #MAX_NGRAM} words for longer ones. Empty if the phrase
+     * has no tokens.
+     */
+    public static int[] ofPhrase(String lowerPhrase) {
+        int[] tokens = tokenHashes(lowerPhrase);
+        int windowSize = Math.min(tokens.length, MAX_NGRAM);
+        int windows = tokens.length - windowSize + (tokens.length > 0 ? 1 : 0);
+        int[] hashes = new int[windows];
+        for (int start = 0; start < windows; start++) {
+            int hash = 0;
+            for (int n = 0; n < windowSize; n++) {
+                hash = combine(hash, tokens[start + n]);
+            }
+            hashes[start] = finish(hash, windowSize);
+        }
+        return hashes;
+    }
+
+    /**
+     * Delta and varint encoding of a sorted array, for storage.
+     */
+    public static byte[] encode(int[] sorted) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(sorted.length * 3 + 5);
+        writeVarint(out, sorted.length);
+        long previous = Integer.MIN_VALUE;
+        for (int value : sorted) {
+            long delta = (long) value - previous;
+            writeVarint(out, delta);
+            previous = value;
+        }
+        return out.toByteArray();
+    }
+
+    public static int[] decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            return EMPTY;
+        }
+        int[] position = {0};
+        int length = (int) readVarint(data, position);
+        int[] values = new int[length];
+        long previous = Integer.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            previous += readVarint(data, position);
+            values[i] = (int) previous;
+        }
+        return values;
+    }
+
+    private static int[] tokenHashes(String text) {
+        int[] tokens = new int[16];
+        int count = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !isTokenChar(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && isTokenChar(text.charAt(i))) {
+                i++;
+            }
+            int end = i;
+            while (end > start && text.charAt(end - 1) == '.') {
+                end--;
+            }
+            if (end > start) {
+                if (count == tokens.length) {
+                    tokens = Arrays.copyOf(tokens, count * 2);
+                }
+                tokens[count++] = hashToken(text, start, end);
+            }
+        }
+        return Arrays.copyOf(tokens, count);
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.';
+    }
+
+    // FNV-1a over the UTF-16 code units
+    private static int hashToken(String text, int start, int end) {
+        int hash = 0x811C9DC5;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    private static int combine(int hash, int tokenHash) {
+        return hash * 0x9E3779B1 + tokenHash;
+    }
+
+    // Murmur3 finalizer, with the n-gram length mixed in
+    private static int finish(int hash, int length) {
+        int h = hash ^ length;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int[] distinctSorted(int[] values, int count) {
+        Arrays.sort(values, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || values[i] != values[distinct - 1]) {
+                values[distinct++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, distinct);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
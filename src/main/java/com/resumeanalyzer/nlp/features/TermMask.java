@@ -0,0 +1,164 @@
+package com.resumeanalyzer.nlp.features;
+
+import java.util.Arrays;
+
+/**
+ * Set of {@link AtsVocabulary} term ids, one bit per term in 64-bit words, so
+ * intersecting a job's terms with a resume's is an AND and a bit count per word.
+ * Immutable; sets are built with {@link Builder}.
+ */
+public final class TermMask {
+
+    public static final TermMask EMPTY = new TermMask(new long[0]);
+
+    // No trailing zero words, so equal sets have equal arrays
+    private final long[] words;
+
+    private TermMask(long[] words) {
+        this.words = words;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The set of the given term ids, e.g. as stored by {@link #encode()}.
+     */
+    public static TermMask of(int... termIds) {
+        Builder builder = builder();
+        for (int termId : termIds) {
+            builder.add(termId);
+        }
+        return builder.build();
+    }
+
+    public static TermMask decode(byte[] data) {
+        return of(TermHashes.decode(data));
+    }
+
+    public boolean contains(int termId) {
+        int word = termId >>> 6;
+        return word < words.length && (words[word] & 1L << termId) != 0;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Number of terms in both sets, without building the intersection.
+     */
+    public int andCardinality(TermMask other) {
+        int length = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    public TermMask and(TermMask other) {
+        int length = Math.min(words.length, other.words.length);
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return trimmed(result);
+    }
+
+    public TermMask andNot(TermMask other) {
+        long[] result = words.clone();
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            result[i] &= ~other.words[i];
+        }
+        return trimmed(result);
+    }
+
+    /**
+     * Term ids in ascending order.
+     */
+    public int[] termIds() {
+        int[] termIds = new int[cardinality()];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long bits = words[i]; bits != 0; bits &= bits - 1) {
+                termIds[count++] = (i << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return termIds;
+    }
+
+    /**
+     * Delta and varint encoded term ids, for storage; small however large the vocabulary is.
+     */
+    public byte[] encode() {
+        return TermHashes.encode(termIds());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TermMask mask && Arrays.equals(words, mask.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(termIds());
+    }
+
+    private static TermMask trimmed(long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return length == 0 ? EMPTY : new TermMask(length == words.length ? words : Arrays.copyOf(words, length));
+    }
+
+    public static final class Builder {
+
+        private long[] words = new long[1];
+
+        private Builder() {
+        }
+
+        public Builder add(int termId) {
+            if (termId < 0) {
+                throw new IllegalArgumentException("Negative term id " + termId);
+            }
+            int word = termId >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+            }
+            words[word] |= 1L << termId;
+            return this;
+        }
+
+        public Builder addAll(TermMask mask) {
+            if (mask.words.length > words.length) {
+                words = Arrays.copyOf(words, mask.words.length);
+            }
+            for (int i = 0; i < mask.words.length; i++) {
+                words[i] |= mask.words[i];
+            }
+            return this;
+        }
+
+        public TermMask build() {
+            return trimmed(words.clone());
+        }
+    }
+}
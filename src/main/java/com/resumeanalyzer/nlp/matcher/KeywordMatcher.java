@@ -0,0 +1,232 @@
+package com.resumeanalyzer.nlp.matcher;
+
+import java.util.*;
+
+/**
+ * Immutable Aho-Corasick automaton that finds every dictionary term in a single
+ * pass over the text. Terms are matched case-sensitively against lowercased
+ * input, so callers should lowercase the text once before scanning.
+ *
+ * A match is only reported when the term is not glued to surrounding word
+ * characters, i.e. "java" does not match inside "javascript" and "c++" matches
+ * in "c++ developer".
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUTS = new int[0];
+
+    private final String[] terms;
+    private final Map<String, Integer> termIds;
+    private final char[][] transitionKeys;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    private final int[][] outputs;
+
+    private KeywordMatcher(String[] terms, List<Map<Character, Integer>> trie, List<List<Integer>> termsEndingAt) {
+        this.terms = terms;
+        this.termIds = new HashMap<>();
+        for (int termId = 0; termId < terms.length; termId++) {
+            termIds.put(terms[termId], termId);
+        }
+        int nodeCount = trie.size();
+        this.transitionKeys = new char[nodeCount][];
+        this.transitionTargets = new int[nodeCount][];
+        this.failure = new int[nodeCount];
+        this.outputs = new int[nodeCount][];
+
+        for (int node = 0; node < nodeCount; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            char[] keys = new char[edges.size()];
+            int[] targets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : new TreeMap<>(edges).entrySet()) {
+                keys[i] = edge.getKey();
+                targets[i] = edge.getValue();
+                i++;
+            }
+            transitionKeys[node] = keys;
+            transitionTargets[node] = targets;
+        }
+
+        // Breadth-first so that a node's failure target is complete before the node itself
+        outputs[ROOT] = toArray(termsEndingAt.get(ROOT));
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            outputs[node] = mergeOutputs(termsEndingAt.get(node), outputs[failure[node]]);
+            char[] keys = transitionKeys[node];
+            int[] targets = transitionTargets[node];
+            for (int i = 0; i < keys.length; i++) {
+                int child = targets[i];
+                int fallback = failure[node];
+                int next;
+                while ((next = step(fallback, keys[i])) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = next >= 0 ? next : ROOT;
+                queue.add(child);
+            }
+        }
+    }
+
+    public static KeywordMatcher of(Collection<String> terms) {
+        Builder builder = new Builder();
+        terms.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    public String term(int termId) {
+        return terms[termId];
+    }
+
+    /**
+     * Returns the id of a term (case-insensitive), or -1 when it is not in the dictionary.
+     */
+    public int idOf(String term) {
+        return termIds.getOrDefault(term.trim().toLowerCase(Locale.ROOT), -1);
+    }
+
+    /**
+     * Returns every boundary-respecting occurrence in text order of end position.
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        scan(text, (termId, start, end) -> matches.add(new Match(termId, terms[termId], start, end)));
+        return matches;
+    }
+
+    /**
+     * Returns the number of occurrences per term id; absent terms have a count of zero.
+     */
+    public int[] countAll(CharSequence text) {
+        int[] counts = new int[terms.length];
+        scan(text, (termId, start, end) -> counts[termId]++);
+        return counts;
+    }
+
+    public void scan(CharSequence text, MatchListener listener) {
+        scan(text, 0, text.length(), listener);
+    }
+
+    /**
+     * Scans only text[from, to); word boundaries are still checked against the characters around the range.
+     */
+    public void scan(CharSequence text, int from, int to, MatchListener listener) {
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(state, c)) < 0 && state != ROOT) {
+                state = failure[state];
+            }
+            state = next >= 0 ? next : ROOT;
+
+            for (int termId : outputs[state]) {
+                String term = terms[termId];
+                int start = i - term.length() + 1;
+                int end = i + 1;
+                if (isBoundary(text, term, start, end)) {
+                    listener.onMatch(termId, start, end);
+                }
+            }
+        }
+    }
+
+    private int step(int node, char c) {
+        char[] keys = transitionKeys[node];
+        int index = Arrays.binarySearch(keys, c);
+        return index >= 0 ? transitionTargets[node][index] : -1;
+    }
+
+    private static boolean isBoundary(CharSequence text, String term, int start, int end) {
+        if (isWordChar(term.charAt(0)) && start > 0 && isWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        return !(isWordChar(term.charAt(term.length() - 1)) && end < text.length() && isWordChar(text.charAt(end)));
+    }
+
+    // Same definition as the regex \w used by the previous \b...\b patterns
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) {
+            return NO_OUTPUTS;
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] mergeOutputs(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(toArray(own), own.size() + inherited.length);
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int termId, int start, int end);
+    }
+
+    public record Match(int termId, String term, int start, int end) {
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Integer> termIds = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a term and returns its id. Terms are lowercased; duplicates share one id.
+         */
+        public int add(String term) {
+            String normalized = term.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                throw new IllegalArgumentException("Matcher terms cannot be blank");
+            }
+            return termIds.computeIfAbsent(normalized, key -> termIds.size());
+        }
+
+        public KeywordMatcher build() {
+            String[] terms = termIds.keySet().toArray(new String[0]);
+            List<Map<Character, Integer>> trie = new ArrayList<>();
+            List<List<Integer>> termsEndingAt = new ArrayList<>();
+            trie.add(new HashMap<>());
+            termsEndingAt.add(new ArrayList<>());
+
+            for (int termId = 0; termId < terms.length; termId++) {
+                int node = ROOT;
+                for (char c : terms[termId].toCharArray()) {
+                    Integer child = trie.get(node).get(c);
+                    if (child == null) {
+                        child = trie.size();
+                        trie.get(node).put(c, child);
+                        trie.add(new HashMap<>());
+                        termsEndingAt.add(new ArrayList<>());
+                    }
+                    node = child;
+                }
+                termsEndingAt.get(node).add(termId);
+            }
+            return new KeywordMatcher(terms, trie, termsEndingAt);
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package com.resumeanalyzer.nlp.processors;
 
+import com.resumeanalyzer.model.EducationExtraction;
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.document.SectionType;
+import com.resumeanalyzer.nlp.taxonomy.DegreeLevel;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
 
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Component
 public class EducationProcessor {
 
+    private static final Logger log = LoggerFactory.getLogger(EducationProcessor.class);
+
+    // Degree names and fields of study come from the taxonomy
+    @Autowired
+    private SkillTaxonomyProvider taxonomies;
+
     // Education-related keywords
     private static final List<String> EDUCATION_KEYWORDS = Arrays.asList(
         "education", "degree", "university", "college", "bachelor", "master", 
@@ -20,97 +38,128 @@ public class EducationProcessor {
         "institute", "school", "academic", "studied"
     );
 
-    // Degree patterns
-    private static final List<String> DEGREE_TYPES = Arrays.asList(
-        "Bachelor", "Master", "PhD", "Doctorate", "Associate", "Certificate",
-        "B.S.", "B.A.", "M.S.", "M.A.", "MBA", "B.E.", "B.Tech", "M.Tech"
-    );
+    private static final Set<SectionType> EDUCATION_SECTIONS = EnumSet.of(SectionType.EDUCATION);
 
-    // Field of study patterns
-    private static final List<String> STUDY_FIELDS = Arrays.asList(
-        "Computer Science", "Engineering", "Business", "Mathematics", "Physics",
-        "Chemistry", "Biology", "Economics", "Finance", "Marketing", "Psychology",
-        "Information Technology", "Software Engineering", "Data Science"
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    // University/college patterns
+    private static final Pattern INSTITUTION_PATTERN = Pattern.compile(
+        "(?:University|College|Institute|School)\\s+of\\s+([A-Za-z\\s]+)|" +
+        "([A-Za-z\\s]+)\\s+(?:University|College|Institute|School)",
+        Pattern.CASE_INSENSITIVE
     );
 
-    public void extractEducation(Resume resume, String text) {
-        List<String> educationInfo = new ArrayList<>();
-        boolean inEducationSection = false;
+    public void extractEducation(Resume resume, ParsedDocument document) {
+        List<Integer> educationLines = document.hasSection(SectionType.EDUCATION)
+                ? educationSectionLines(document)
+                : educationKeywordLines(document);
         
-        // Try NLP processing if available
+        // Store education information
+        if (!educationLines.isEmpty()) {
+            resume.setEducationExtractions(toEducationExtractions(resume, document, educationLines));
+            log.debug("Found {} education entries", educationLines.size());
+        }
+    }
+
+    private List<Integer> educationSectionLines(ParsedDocument document) {
+        List<Integer> educationLines = new ArrayList<>();
+        for (ParsedDocument.Span span : document.scope(EDUCATION_SECTIONS)) {
+            for (int line = span.firstLine(); line < span.endLine(); line++) {
+                if (document.lineEnd(line) - document.lineStart(line) > 5 && !document.isBlankLine(line)) {
+                    educationLines.add(line);
+                }
+            }
+        }
+        return educationLines;
+    }
+
+    // Without an education heading, guess the section from keywords
+    private List<Integer> educationKeywordLines(ParsedDocument document) {
+        List<Integer> educationLines = new ArrayList<>();
+        boolean inEducationSection = false;
         
-        String[] lines = text.split("\\n");
-        for (String line : lines) {
-            String lowerLine = line.toLowerCase();
-            
+        for (int line = 0; line < document.lineCount(); line++) {
             // Check if we're in education section
-            if (EDUCATION_KEYWORDS.stream().anyMatch(lowerLine::contains)) {
+            if (containsEducationKeywords(document, line)) {
                 inEducationSection = true;
             }
             
             // Look for degree patterns
             if (inEducationSection || 
-                containsEducationKeywords(lowerLine) ||
-                containsDegreePattern(line)) {
+                containsDegreePattern(document, line)) {
                 
-                if (!line.trim().isEmpty() && line.length() > 5) {
-                    educationInfo.add(line.trim());
+                if (document.lineEnd(line) - document.lineStart(line) > 5 && !document.line(line).isBlank()) {
+                    educationLines.add(line);
                 }
             }
             
             // Stop education section when we hit other sections
-            if (lowerLine.contains("experience") || lowerLine.contains("work") ||
-                lowerLine.contains("skills") || lowerLine.contains("projects")) {
+            if (document.lineContains(line, "experience") || document.lineContains(line, "work") ||
+                document.lineContains(line, "skills") || document.lineContains(line, "projects")) {
                 inEducationSection = false;
             }
         }
-        
-        // Store education information
-        if (!educationInfo.isEmpty()) {
-            // You can add an education field to the Resume model
-            // For now, we'll just log that education was found
-            System.out.println("Found education information: " + educationInfo.size() + " entries");
+        return educationLines;
+    }
+
+    // Only lines naming both a degree and an institution become rows; both columns are mandatory
+    private List<EducationExtraction> toEducationExtractions(Resume resume, ParsedDocument document,
+                                                             List<Integer> educationLines) {
+        List<EducationExtraction> extractions = new ArrayList<>();
+        for (int line : educationLines) {
+            if (!containsDegreePattern(document, line)) {
+                continue;
+            }
+            List<String> institutions = extractInstitutions(document.line(line).trim());
+            if (institutions.isEmpty()) {
+                continue;
+            }
+            String lowerLine = document.lowerLine(line);
+            List<String> fields = fieldsOfStudy(lowerLine);
+
+            EducationExtraction extraction = new EducationExtraction();
+            extraction.setDegree(highestDegreeLevel(lowerLine).getDisplayName());
+            // The institution pattern can run across a whole unwrapped paragraph, so fit it to the column
+            extraction.setInstitution(StringUtils.left(institutions.get(0), MAX_COLUMN_LENGTH));
+            extraction.setFieldOfStudy(fields.isEmpty() ? null : fields.get(0));
+            extraction.setResume(resume);
+            extractions.add(extraction);
         }
+        return extractions;
     }
 
-    private boolean containsEducationKeywords(String line) {
-        return EDUCATION_KEYWORDS.stream().anyMatch(line::contains);
+    private boolean containsEducationKeywords(ParsedDocument document, int line) {
+        return EDUCATION_KEYWORDS.stream().anyMatch(keyword -> document.lineContains(line, keyword));
     }
 
-    private boolean containsDegreePattern(String line) {
-        return DEGREE_TYPES.stream().anyMatch(degree -> 
-            line.toLowerCase().contains(degree.toLowerCase()));
+    private boolean containsDegreePattern(ParsedDocument document, int line) {
+        return taxonomies.current().getDegreeTerms().stream().anyMatch(degree -> 
+            document.lineContains(line, degree.term()));
     }
 
-    public String extractHighestDegree(String text) {
-        String lowerText = text.toLowerCase();
-        
-        // Check for advanced degrees first
-        if (lowerText.contains("phd") || lowerText.contains("doctorate")) {
-            return "PhD/Doctorate";
-        }
-        if (lowerText.contains("master") || lowerText.contains("m.s.") || 
-            lowerText.contains("m.a.") || lowerText.contains("mba") ||
-            lowerText.contains("m.tech")) {
-            return "Master's";
-        }
-        if (lowerText.contains("bachelor") || lowerText.contains("b.s.") || 
-            lowerText.contains("b.a.") || lowerText.contains("b.e.") ||
-            lowerText.contains("b.tech")) {
-            return "Bachelor's";
-        }
-        if (lowerText.contains("associate") || lowerText.contains("diploma")) {
-            return "Associate/Diploma";
+    public String extractHighestDegree(ParsedDocument document) {
+        return highestDegreeLevel(document.getLowerText()).getDisplayName();
+    }
+
+    private DegreeLevel highestDegreeLevel(String lowerText) {
+        // Degree terms are ordered highest level first
+        for (SkillTaxonomy.DegreeTerm degree : taxonomies.current().getDegreeTerms()) {
+            if (degree.level() != DegreeLevel.UNSPECIFIED && lowerText.contains(degree.term())) {
+                return degree.level();
+            }
         }
         
-        return "Not Specified";
+        return DegreeLevel.UNSPECIFIED;
+    }
+
+    public List<String> extractFieldsOfStudy(ParsedDocument document) {
+        return fieldsOfStudy(document.getLowerText());
     }
 
-    public List<String> extractFieldsOfStudy(String text) {
+    private List<String> fieldsOfStudy(String lowerText) {
         List<String> foundFields = new ArrayList<>();
-        String lowerText = text.toLowerCase();
         
-        for (String field : STUDY_FIELDS) {
+        for (String field : taxonomies.current().getStudyFields()) {
             if (lowerText.contains(field.toLowerCase())) {
                 foundFields.add(field);
             }
@@ -122,14 +171,7 @@ public class EducationProcessor {
     public List<String> extractInstitutions(String text) {
         List<String> institutions = new ArrayList<>();
         
-        // Look for university/college patterns
-        Pattern institutionPattern = Pattern.compile(
-            "(?:University|College|Institute|School)\\s+of\\s+([A-Za-z\\s]+)|" +
-            "([A-Za-z\\s]+)\\s+(?:University|College|Institute|School)",
-            Pattern.CASE_INSENSITIVE
-        );
-        
-        Matcher matcher = institutionPattern.matcher(text);
+        Matcher matcher = INSTITUTION_PATTERN.matcher(text);
         while (matcher.find()) {
             String institution = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
             if (institution != null && institution.trim().length() > 2) {
@@ -140,9 +182,8 @@ public class EducationProcessor {
         return institutions;
     }
 
-    public List<String> extractCertifications(String text) {
+    public List<String> extractCertifications(ParsedDocument document) {
         List<String> certifications = new ArrayList<>();
-        String lowerText = text.toLowerCase();
         
         // Common certification patterns
         String[] certKeywords = {
@@ -152,12 +193,11 @@ public class EducationProcessor {
         };
         
         for (String keyword : certKeywords) {
-            if (lowerText.contains(keyword)) {
+            if (document.contains(keyword)) {
                 // Extract the line containing the certification
-                String[] lines = text.split("\\n");
-                for (String line : lines) {
-                    if (line.toLowerCase().contains(keyword)) {
-                        certifications.add(line.trim());
+                for (int line = 0; line < document.lineCount(); line++) {
+                    if (document.lineContains(line, keyword)) {
+                        certifications.add(document.line(line).trim());
                         break;
                     }
                 }
@@ -167,21 +207,20 @@ public class EducationProcessor {
         return certifications;
     }
 
-    public double calculateEducationScore(String text) {
+    public double calculateEducationScore(ParsedDocument document) {
         double score = 0.0;
         
-        String highestDegree = extractHighestDegree(text);
-        switch (highestDegree) {
-            case "PhD/Doctorate":
+        switch (highestDegreeLevel(document.getLowerText())) {
+            case DOCTORATE:
                 score += 1.0;
                 break;
-            case "Master's":
+            case MASTER:
                 score += 0.8;
                 break;
-            case "Bachelor's":
+            case BACHELOR:
                 score += 0.6;
                 break;
-            case "Associate/Diploma":
+            case ASSOCIATE:
                 score += 0.4;
                 break;
             default:
@@ -189,7 +228,7 @@ public class EducationProcessor {
         }
         
         // Add points for certifications
-        List<String> certifications = extractCertifications(text);
+        List<String> certifications = extractCertifications(document);
         score += certifications.size() * 0.1;
         
         return Math.min(score, 1.0);
@@ -1,6 +1,12 @@
 package com.resumeanalyzer.nlp.processors;
 
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.document.SectionType;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -10,49 +16,66 @@ import java.util.regex.Pattern;
 @Component
 public class ExperienceProcessor {
 
+    private static final Logger log = LoggerFactory.getLogger(ExperienceProcessor.class);
+
+    // Job titles come from the taxonomy
+    @Autowired
+    private SkillTaxonomyProvider taxonomies;
+
     // Experience-related keywords
     private static final List<String> EXPERIENCE_KEYWORDS = Arrays.asList(
             "experience", "work", "employment", "career", "professional", "job",
             "position", "role", "worked", "employed", "served", "years");
 
-    // Job title patterns
-    private static final List<String> JOB_TITLES = Arrays.asList(
-            "Developer", "Engineer", "Manager", "Analyst", "Consultant", "Architect",
-            "Designer", "Specialist", "Lead", "Senior", "Junior", "Associate",
-            "Director", "VP", "CTO", "CEO", "Product Manager", "Project Manager");
+    // Dates of studies or certifications are no work experience; a resume without these sections is read whole
+    private static final Set<SectionType> EXPERIENCE_SECTIONS = EnumSet.of(SectionType.EXPERIENCE);
+    private static final Set<SectionType> EXPLICIT_EXPERIENCE_SECTIONS =
+            EnumSet.of(SectionType.SUMMARY, SectionType.EXPERIENCE);
+
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\b(19|20)\\d{2}\\b");
+
+    // Explicit experience mentions like "5 years experience"
+    private static final Pattern EXPLICIT_EXPERIENCE_PATTERN =
+            Pattern.compile("(\\d+)\\s+years?\\s+(?:of\\s+)?(?:experience|work)", Pattern.CASE_INSENSITIVE);
 
-    public void calculateExperience(Resume resume, String text) {
+    // Company patterns (this is a simplified approach)
+    private static final Pattern COMPANY_PATTERN =
+            Pattern.compile("(?:at|@)\\s+([A-Z][a-zA-Z\\s&,.]+?)(?:\\s|,|\\.|$)", Pattern.MULTILINE);
+
+    public void calculateExperience(Resume resume, ParsedDocument document) {
         int currentYear = java.time.Year.now().getValue();
         Set<Integer> years = new HashSet<>();
 
         try {
             // Extract years using regex patterns
-            extractYearsWithRegex(text, years, currentYear);
+            extractYearsWithRegex(document, years, currentYear);
             
             // Calculate experience more accurately
             int experienceYears = calculateYearsFromDates(years, currentYear);
             
             // Look for explicit experience mentions
-            int explicitYears = extractExplicitExperience(text);
+            int explicitYears = extractExplicitExperience(document);
             experienceYears = Math.max(experienceYears, explicitYears);
             
             resume.setTotalExperienceYears(experienceYears);
             setSeniorityLevel(resume, experienceYears);
             
         } catch (Exception e) {
-            System.err.println("Warning: Experience extraction failed: " + e.getMessage());
+            log.warn("Experience extraction failed: {}", e.getMessage());
             resume.setTotalExperienceYears(0);
             resume.setSeniority("Entry Level");
         }
     }
 
-    private void extractYearsWithRegex(String text, Set<Integer> years, int currentYear) {
-        Pattern yearPattern = Pattern.compile("\\b(19|20)\\d{2}\\b");
-        Matcher yearMatcher = yearPattern.matcher(text);
-        while (yearMatcher.find()) {
-            int year = Integer.parseInt(yearMatcher.group());
-            if (year >= 1990 && year <= currentYear) {
-                years.add(year);
+    private void extractYearsWithRegex(ParsedDocument document, Set<Integer> years, int currentYear) {
+        Matcher yearMatcher = YEAR_PATTERN.matcher(document.getText());
+        for (ParsedDocument.Span span : document.scope(EXPERIENCE_SECTIONS)) {
+            yearMatcher.region(span.start(), span.end());
+            while (yearMatcher.find()) {
+                int year = Integer.parseInt(yearMatcher.group());
+                if (year >= 1990 && year <= currentYear) {
+                    years.add(year);
+                }
             }
         }
     }
@@ -73,12 +96,13 @@ public class ExperienceProcessor {
         }
     }
 
-    private int extractExplicitExperience(String text) {
-        // Look for explicit experience mentions like "5 years experience"
-        Pattern expPattern = Pattern.compile("(\\d+)\\s+years?\\s+(?:of\\s+)?(?:experience|work)", Pattern.CASE_INSENSITIVE);
-        Matcher expMatcher = expPattern.matcher(text);
-        if (expMatcher.find()) {
-            return Integer.parseInt(expMatcher.group(1));
+    private int extractExplicitExperience(ParsedDocument document) {
+        Matcher expMatcher = EXPLICIT_EXPERIENCE_PATTERN.matcher(document.getText());
+        for (ParsedDocument.Span span : document.scope(EXPLICIT_EXPERIENCE_SECTIONS)) {
+            expMatcher.region(span.start(), span.end());
+            if (expMatcher.find()) {
+                return Integer.parseInt(expMatcher.group(1));
+            }
         }
         return 0;
     }
@@ -97,12 +121,11 @@ public class ExperienceProcessor {
         }
     }
 
-    public List<String> extractJobTitles(String text) {
+    public List<String> extractJobTitles(ParsedDocument document) {
         List<String> foundTitles = new ArrayList<>();
-        String lowerText = text.toLowerCase();
         
-        for (String title : JOB_TITLES) {
-            if (lowerText.contains(title.toLowerCase())) {
+        for (String title : taxonomies.current().getJobTitles()) {
+            if (document.contains(title.toLowerCase())) {
                 foundTitles.add(title);
             }
         }
@@ -110,12 +133,9 @@ public class ExperienceProcessor {
         return foundTitles;
     }
 
-    public List<String> extractCompanies(String text) {
+    public List<String> extractCompanies(ParsedDocument document) {
         List<String> companies = new ArrayList<>();
-        
-        // Look for company patterns (this is a simplified approach)
-        Pattern companyPattern = Pattern.compile("(?:at|@)\\s+([A-Z][a-zA-Z\\s&,.]+?)(?:\\s|,|\\.|$)", Pattern.MULTILINE);
-        Matcher matcher = companyPattern.matcher(text);
+        Matcher matcher = COMPANY_PATTERN.matcher(document.getText());
         
         while (matcher.find()) {
             String company = matcher.group(1).trim();
@@ -127,27 +147,24 @@ public class ExperienceProcessor {
         return companies;
     }
 
-    public boolean hasRemoteExperience(String text) {
-        String lowerText = text.toLowerCase();
-        return lowerText.contains("remote") || 
-               lowerText.contains("work from home") || 
-               lowerText.contains("telecommute") ||
-               lowerText.contains("distributed team");
+    public boolean hasRemoteExperience(ParsedDocument document) {
+        return document.contains("remote") || 
+               document.contains("work from home") || 
+               document.contains("telecommute") ||
+               document.contains("distributed team");
     }
 
-    public boolean hasLeadershipExperience(String text) {
-        String lowerText = text.toLowerCase();
-        return lowerText.contains("lead") || 
-               lowerText.contains("manage") || 
-               lowerText.contains("supervise") ||
-               lowerText.contains("mentor") ||
-               lowerText.contains("team lead") ||
-               lowerText.contains("project manager");
+    public boolean hasLeadershipExperience(ParsedDocument document) {
+        return document.contains("lead") || 
+               document.contains("manage") || 
+               document.contains("supervise") ||
+               document.contains("mentor") ||
+               document.contains("team lead") ||
+               document.contains("project manager");
     }
 
-    public boolean hasExperienceSection(String text) {
-        String lowerText = text.toLowerCase();
+    public boolean hasExperienceSection(ParsedDocument document) {
         return EXPERIENCE_KEYWORDS.stream()
-                .anyMatch(keyword -> lowerText.contains(keyword));
+                .anyMatch(document::contains);
     }
 }
@@ -0,0 +1,134 @@
+package com.resumeanalyzer.nlp.processors;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.model.ResumeFeatures;
+import com.resumeanalyzer.model.SkillExtraction;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.features.AtsVocabulary;
+import com.resumeanalyzer.nlp.features.FeatureVector;
+import com.resumeanalyzer.nlp.features.TermHashes;
+import com.resumeanalyzer.nlp.skills.ExtractedSkills;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds the {@link FeatureVector} of a resume from its preprocessed text, skills and
+ * experience. Runs as the last analysis stage; resumes stored before vectors
+ * existed, or with an older version, get theirs built on first use.
+ */
+@Component
+public class FeatureProcessor {
+
+    // What the vector's fields hold; bump when that changes so that stored vectors are rebuilt
+    private static final int FEATURES_VERSION = 3;
+
+    @Autowired
+    private SkillTaxonomyProvider taxonomies;
+
+    @Autowired
+    private TextPreProcessor textPreProcessor;
+
+    /**
+     * Version of the taxonomy, the term hashing and the vector's fields; vectors of another version are stale.
+     */
+    public int getVersion() {
+        return versionOf(taxonomies.current());
+    }
+
+    public boolean isCurrent(FeatureVector vector) {
+        return vector != null && vector.getVersion() == getVersion();
+    }
+
+    /**
+     * Stores the vector of an analyzed resume; needs the skills and experience stages to have run.
+     */
+    public void computeFeatures(Resume resume, ParsedDocument document) {
+        FeatureVector vector = buildVector(resume, document);
+        if (resume.getFeatures() != null) {
+            resume.getFeatures().update(vector);
+        } else {
+            resume.setFeatures(ResumeFeatures.of(vector));
+        }
+    }
+
+    /**
+     * Vector of a stored resume, from its original text preprocessed the way analysis does.
+     */
+    public FeatureVector buildVector(Resume resume) {
+        return buildVector(resume, taxonomies.current());
+    }
+
+    /**
+     * Like {@link #buildVector(Resume)}, against a given taxonomy snapshot rather than the current one.
+     */
+    public FeatureVector buildVector(Resume resume, SkillTaxonomy taxonomy) {
+        return buildVector(resume, ParsedDocument.parse(textPreProcessor.preprocessText(resume.getOriginalText())),
+                taxonomy);
+    }
+
+    public FeatureVector buildVector(Resume resume, ParsedDocument document) {
+        return buildVector(resume, document, taxonomies.current());
+    }
+
+    public FeatureVector buildVector(Resume resume, ParsedDocument document, SkillTaxonomy taxonomy) {
+        String lowerText = document.getLowerText();
+
+        List<String> skillNames = new ArrayList<>();
+        int[] skillIds;
+        ExtractedSkills extractedSkills = resume.getExtractedSkills();
+        if (extractedSkills != null && extractedSkills.usesNames(taxonomy.skillNames())) {
+            skillIds = new int[extractedSkills.size()];
+            for (int i = 0; i < extractedSkills.size(); i++) {
+                skillIds[i] = extractedSkills.skillId(i);
+                skillNames.add(extractedSkills.skillName(i));
+            }
+        } else {
+            // Resumes loaded from the database only have their skill rows, and skills found with
+            // another taxonomy snapshot have ids of that snapshot; both are looked up by name
+            if (extractedSkills != null) {
+                for (int i = 0; i < extractedSkills.size(); i++) {
+                    skillNames.add(extractedSkills.skillName(i));
+                }
+            } else if (resume.getSkillExtractions() != null) {
+                for (SkillExtraction row : resume.getSkillExtractions()) {
+                    skillNames.add(row.getSkillName());
+                }
+            }
+            skillIds = new int[skillNames.size()];
+            int count = 0;
+            for (String skillName : skillNames) {
+                int skillId = taxonomy.skillIdOf(skillName);
+                if (skillId >= 0) {
+                    skillIds[count++] = skillId;
+                }
+            }
+            skillIds = Arrays.copyOf(skillIds, count);
+        }
+        Arrays.sort(skillIds);
+
+        AtsVocabulary vocabulary = taxonomy.getAtsVocabulary();
+        return new FeatureVector(versionOf(taxonomy), vocabulary.keywordMask(lowerText),
+                vocabulary.skillMatchMask(skillNames), experienceMonths(resume), skillIds,
+                TermHashes.ofText(lowerText));
+    }
+
+    /**
+     * Version of the vectors built against the taxonomy snapshot.
+     */
+    public static int versionOf(SkillTaxonomy taxonomy) {
+        return Objects.hash(taxonomy.getFingerprint(), TermHashes.VERSION, FEATURES_VERSION);
+    }
+
+    // The experience stage estimates whole years from the dates and explicit mentions in the resume
+    private static int experienceMonths(Resume resume) {
+        Integer years = resume.getTotalExperienceYears();
+        return years != null && years > 0 ? years * 12 : FeatureVector.NO_EXPERIENCE;
+    }
+}
@@ -1,15 +1,26 @@
 package com.resumeanalyzer.nlp.processors;
 
 import com.resumeanalyzer.model.Resume;
-import opennlp.tools.tokenize.SimpleTokenizer;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.document.SectionType;
+import com.resumeanalyzer.utils.RegexPatterns;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Component
 public class PersonalInfoProcessor {
 
+    private static final Logger log = LoggerFactory.getLogger(PersonalInfoProcessor.class);
+
+    private static final Set<SectionType> CONTACT_SECTIONS = EnumSet.of(SectionType.CONTACT);
+
     private static final Pattern EMAIL_PATTERN = 
         Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}\\b");
     
@@ -26,41 +37,52 @@ public class PersonalInfoProcessor {
     private static final Pattern NAME_PATTERN = 
         Pattern.compile("^[A-Z][a-zA-Z]+(?:\\s+[a-zA-Z]+){1,3}$");
 
-    public void extractPersonalInfo(Resume resume, String text) {
+    private static final Pattern NAME_WORD_PATTERN = 
+        Pattern.compile("^[a-zA-Z-]+$");
+
+    private static final Pattern DIGIT_RUN_PATTERN = 
+        Pattern.compile("\\d{3,}");
+
+    private static final Pattern ADDRESS_PATTERN = 
+        Pattern.compile("\\b\\d+\\s+[A-Za-z\\s,]+(?:Street|St|Avenue|Ave|Road|Rd|Lane|Ln|Drive|Dr|Boulevard|Blvd)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    public void extractPersonalInfo(Resume resume, ParsedDocument document) {
         // Use enhanced pattern matching (more reliable than heavy NLP libraries)
-        extractPersonalInfoWithPatterns(resume, text);
+        extractPersonalInfoWithPatterns(resume, document);
         
         // Try OpenNLP if available as backup
         if (resume.getFullName() == null) {
-            extractNameWithOpenNLP(resume, text);
+            extractNameWithOpenNLP(resume, document);
         }
         
         // Final fallback with improved name extraction
         if (resume.getFullName() == null) {
-            extractNameFromText(resume, text);
+            extractNameFromText(resume, document);
         }
     }
 
-    private void extractNameWithOpenNLP(Resume resume, String text) {
+    private void extractNameWithOpenNLP(Resume resume, ParsedDocument document) {
         try {
             // Try to use OpenNLP person name finder
             // Note: This requires downloading the person model, which we'll handle gracefully
-            SimpleTokenizer tokenizer = SimpleTokenizer.INSTANCE;
-            tokenizer.tokenize(text); // Basic tokenization to validate OpenNLP is working
+            if (document.tokenCount() == 0) { // The document's OpenNLP tokens; nothing to name without them
+                return;
+            }
             
             // For now, we'll use a simple approach since OpenNLP models need to be downloaded
             // This is more reliable than Stanford CoreNLP for this use case
-            extractNameFromFirstLines(resume, text);
+            extractNameFromFirstLines(resume, document);
             
         } catch (Exception e) {
-            System.err.println("OpenNLP name extraction failed, using fallback: " + e.getMessage());
+            log.warn("OpenNLP name extraction failed, using fallback: {}", e.getMessage());
         }
     }
     
-    private void extractNameFromFirstLines(Resume resume, String text) {
-        String[] lines = text.split("\\n");
-        for (int i = 0; i < Math.min(5, lines.length); i++) {
-            String line = lines[i].trim();
+    private void extractNameFromFirstLines(Resume resume, ParsedDocument document) {
+        ParsedDocument.Span contact = document.scope(CONTACT_SECTIONS).get(0);
+        for (int i = contact.firstLine(); i < Math.min(contact.firstLine() + 5, contact.endLine()); i++) {
+            String line = document.line(i).trim();
             if (isLikelyName(line)) {
                 resume.setFullName(line);
                 break;
@@ -75,7 +97,7 @@ public class PersonalInfoProcessor {
         if (line.contains("@") || 
             line.contains("http") || 
             line.contains("www") ||
-            line.matches(".*\\d{3,}.*") ||
+            DIGIT_RUN_PATTERN.matcher(line).find() ||
             line.length() < 4 || 
             line.length() > 50) {
             return false;
@@ -85,50 +107,59 @@ public class PersonalInfoProcessor {
         return NAME_PATTERN.matcher(line).matches();
     }
 
-    private void extractPersonalInfoWithPatterns(Resume resume, String text) {
+    private void extractPersonalInfoWithPatterns(Resume resume, ParsedDocument document) {
         // Extract email
         if (resume.getEmail() == null) {
-            Matcher emailMatcher = EMAIL_PATTERN.matcher(text);
-            if (emailMatcher.find()) {
-                resume.setEmail(emailMatcher.group());
-            }
+            resume.setEmail(findContactDetail(EMAIL_PATTERN, document));
         }
 
         // Extract phone
         if (resume.getPhoneNumber() == null) {
-            Matcher phoneMatcher = PHONE_PATTERN.matcher(text);
-            if (phoneMatcher.find()) {
-                resume.setPhoneNumber(phoneMatcher.group());
-            }
+            resume.setPhoneNumber(findContactDetail(PHONE_PATTERN, document));
         }
 
         // Extract LinkedIn
         if (resume.getLinkedinUrl() == null) {
-            Matcher linkedinMatcher = LINKEDIN_PATTERN.matcher(text);
-            if (linkedinMatcher.find()) {
-                resume.setLinkedinUrl(linkedinMatcher.group());
-            }
+            resume.setLinkedinUrl(findContactDetail(LINKEDIN_PATTERN, document));
         }
 
         // Extract GitHub
         if (resume.getGithubUrl() == null) {
-            Matcher githubMatcher = GITHUB_PATTERN.matcher(text);
-            if (githubMatcher.find()) {
-                resume.setGithubUrl(githubMatcher.group());
+            resume.setGithubUrl(findContactDetail(GITHUB_PATTERN, document));
+        }
+    }
+
+    // First match in the contact block, else anywhere: some resumes put their links in a footer
+    private static String findContactDetail(Pattern pattern, ParsedDocument document) {
+        String found = findFirst(pattern, document, document.scope(CONTACT_SECTIONS));
+        if (found == null && document.hasSection(SectionType.CONTACT)) {
+            found = findFirst(pattern, document, List.of(document.whole()));
+        }
+        return found;
+    }
+
+    private static String findFirst(Pattern pattern, ParsedDocument document, List<ParsedDocument.Span> scope) {
+        Matcher matcher = pattern.matcher(document.getText());
+        for (ParsedDocument.Span span : scope) {
+            matcher.region(span.start(), span.end());
+            if (matcher.find()) {
+                return matcher.group();
             }
         }
+        return null;
     }
 
-    private void extractNameFromText(Resume resume, String text) {
-        String[] lines = text.split("\\n");
-        for (String line : lines) {
-            line = line.trim();
+    // Only the contact block: in a segmented resume a job title or company below is no name
+    private void extractNameFromText(Resume resume, ParsedDocument document) {
+        ParsedDocument.Span contact = document.scope(CONTACT_SECTIONS).get(0);
+        for (int lineIndex = contact.firstLine(); lineIndex < contact.endLine(); lineIndex++) {
+            String line = document.line(lineIndex).trim();
             if (!line.isEmpty() && 
                 !line.contains("@") && 
                 !line.contains("http") &&
-                !line.matches(".*\\d{3,}.*") && 
+                !DIGIT_RUN_PATTERN.matcher(line).find() && 
                 line.length() > 2 && line.length() < 50) {
-                String[] words = line.split("\\s+");
+                String[] words = RegexPatterns.WHITESPACE.split(line);
                 if (words.length >= 2 && words.length <= 4) {
                     boolean isName = true;
                     for (int i = 0; i < words.length; i++) {
@@ -143,7 +174,7 @@ public class PersonalInfoProcessor {
                             break;
                         }
                         // Check if word contains only letters (no numbers or special chars except hyphens)
-                        if (!word.matches("^[a-zA-Z-]+$")) {
+                        if (!NAME_WORD_PATTERN.matcher(word).matches()) {
                             isName = false;
                             break;
                         }
@@ -157,20 +188,24 @@ public class PersonalInfoProcessor {
         }
     }
 
-    public void extractAddress(Resume resume, String text) {
-        // Enhanced address extraction logic
-        String[] lines = text.split("\\n");
-        Pattern addressPattern = Pattern.compile(
-            "\\b\\d+\\s+[A-Za-z\\s,]+(?:Street|St|Avenue|Ave|Road|Rd|Lane|Ln|Drive|Dr|Boulevard|Blvd)\\b",
-            Pattern.CASE_INSENSITIVE
-        );
-        
-        for (String line : lines) {
-            Matcher addressMatcher = addressPattern.matcher(line);
-            if (addressMatcher.find() && resume.getAddress() == null) {
-                resume.setAddress(line.trim());
-                break;
+    public void extractAddress(Resume resume, ParsedDocument document) {
+        // Enhanced address extraction logic, again the contact block first
+        String address = findAddressLine(document, document.scope(CONTACT_SECTIONS).get(0));
+        if (address == null && document.hasSection(SectionType.CONTACT)) {
+            address = findAddressLine(document, document.whole());
+        }
+        if (address != null && resume.getAddress() == null) {
+            resume.setAddress(address);
+        }
+    }
+
+    private static String findAddressLine(ParsedDocument document, ParsedDocument.Span span) {
+        for (int i = span.firstLine(); i < span.endLine(); i++) {
+            String line = document.line(i);
+            if (ADDRESS_PATTERN.matcher(line).find()) {
+                return line.trim();
             }
         }
+        return null;
     }
 }
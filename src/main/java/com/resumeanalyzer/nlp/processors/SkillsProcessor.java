@@ -1,100 +1,74 @@
 package com.resumeanalyzer.nlp.processors;
 
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.model.SkillExtraction;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.document.SectionType;
+import com.resumeanalyzer.nlp.skills.ExtractedSkills;
+import com.resumeanalyzer.nlp.skills.SkillCategory;
+import com.resumeanalyzer.nlp.skills.SkillsJsonWriter;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 @Component
 public class SkillsProcessor {
 
-    // Enhanced skills categorization
-    private static final Map<String, List<String>> SKILL_CATEGORIES = Map.of(
-            "Programming Languages", Arrays.asList(
-                    "Java", "Python", "JavaScript", "TypeScript", "C++", "C#", "C", "Go", "Rust",
-                    "Kotlin", "Swift", "PHP", "Ruby", "Scala", "R", "MATLAB", "Perl", "Dart", "Lua"),
-            "Web Technologies", Arrays.asList(
-                    "HTML", "CSS", "React", "Angular", "Vue", "Node.js", "Express", "Bootstrap",
-                    "jQuery", "SASS", "LESS", "Webpack", "Vite", "Next.js", "Nuxt.js", "Svelte"),
-            "Frameworks", Arrays.asList(
-                    "Spring", "Spring Boot", "Django", "Flask", "FastAPI", "Rails", "Laravel",
-                    "ASP.NET", "Hibernate", "JPA", "Struts", ".NET Core", "Entity Framework"),
-            "Databases", Arrays.asList(
-                    "MySQL", "PostgreSQL", "MongoDB", "Redis", "Oracle", "SQL Server",
-                    "SQLite", "Cassandra", "ElasticSearch", "DynamoDB", "Firebase", "Neo4j"),
-            "Cloud & DevOps", Arrays.asList(
-                    "AWS", "Azure", "GCP", "Docker", "Kubernetes", "Jenkins", "GitLab CI",
-                    "GitHub Actions", "Terraform", "Ansible", "Chef", "Puppet", "CircleCI"),
-            "Tools & Others", Arrays.asList(
-                    "Git", "Maven", "Gradle", "npm", "JUnit", "Selenium", "REST", "GraphQL",
-                    "Microservices", "Agile", "Scrum", "JIRA", "Confluence", "Postman", "Swagger"),
-            "Data Science & AI", Arrays.asList(
-                    "Machine Learning", "AI", "Data Science", "TensorFlow", "PyTorch", "Scikit-learn",
-                    "Pandas", "NumPy", "Jupyter", "Apache Spark", "Hadoop", "Keras", "OpenCV"),
-            "Mobile Development", Arrays.asList(
-                    "Android", "iOS", "React Native", "Flutter", "Xamarin", "Ionic", "Cordova",
-                    "Swift", "Objective-C", "Kotlin"));
-
-    public void extractSkills(Resume resume, String text) {
-        Map<String, Set<String>> categorizedSkills = new HashMap<>();
-
-        // Initialize categories
-        for (String category : SKILL_CATEGORIES.keySet()) {
-            categorizedSkills.put(category, new HashSet<>());
-        }
+    // A name like "Ruby" or "Swift" in the contact block is no skill
+    private static final Set<SectionType> SKILL_SECTIONS = EnumSet.complementOf(EnumSet.of(SectionType.CONTACT));
 
-        String lowerText = text.toLowerCase();
+    @Autowired
+    private SkillTaxonomyProvider taxonomies;
 
-        // Extract skills by category with context awareness
-        for (Map.Entry<String, List<String>> category : SKILL_CATEGORIES.entrySet()) {
-            String categoryName = category.getKey();
-            List<String> skills = category.getValue();
+    /**
+     * Fingerprint of the current taxonomy; cached analyses from older dictionaries are not reused.
+     */
+    public String getDictionaryFingerprint() {
+        return taxonomies.current().getFingerprint();
+    }
 
-            for (String skill : skills) {
-                if (isSkillPresentInContext(lowerText, skill.toLowerCase())) {
-                    categorizedSkills.get(categoryName).add(skill);
-                }
-            }
-        }
+    /**
+     * Dictionary id of a skill name or one of its aliases (case-insensitive), or -1 when it is not in the dictionary.
+     */
+    public int skillIdOf(String skillName) {
+        return taxonomies.current().skillIdOf(skillName);
+    }
+
+    public void extractSkills(Resume resume, ParsedDocument document) {
+        SkillTaxonomy taxonomy = taxonomies.current();
+        List<ParsedDocument.Span> scope = document.scope(SKILL_SECTIONS);
 
+        // Extract skills by category, keeping how often each one is mentioned
         // Pattern-based extraction is more reliable and faster than NLP for skills
         // Skills are usually well-defined technical terms that don't need complex NLP
-
-        // Convert to JSON format
-        StringBuilder skillsJson = new StringBuilder("[");
-        boolean first = true;
-
-        for (Map.Entry<String, Set<String>> category : categorizedSkills.entrySet()) {
-            String categoryName = category.getKey();
-            Set<String> skills = category.getValue();
-
-            for (String skill : skills) {
-                if (!first) {
-                    skillsJson.append(",");
-                }
-                double confidence = calculateSkillConfidence(text, skill);
-                skillsJson.append(String.format(
-                        "{\"name\":\"%s\",\"category\":\"%s\",\"confidence\":%.2f}",
-                        skill, categoryName, confidence));
-                first = false;
-            }
+        ExtractedSkills.Builder skills = ExtractedSkills.builder(taxonomy.skillNames());
+        for (SkillTaxonomy.SkillMention mention : taxonomy.findSkills(document.getLowerText(), scope)) {
+            String skill = taxonomy.skillNames()[mention.skillId()];
+            float confidence = (float) calculateSkillConfidence(document, scope, skill, taxonomy.weightOf(mention.skillId()));
+            skills.add(mention.skillId(), mention.category(), confidence, mention.mentionCount());
         }
-        skillsJson.append("]");
-        resume.setSkillsJson(skillsJson.toString());
-    }
-
-    private boolean isSkillPresentInContext(String text, String skill) {
-        // Look for skill with word boundaries and context
-        Pattern skillPattern = Pattern.compile("\\b" + Pattern.quote(skill) + "\\b", Pattern.CASE_INSENSITIVE);
-        return skillPattern.matcher(text).find();
+        ExtractedSkills extractedSkills = skills.build();
+
+        // The typed result feeds the summary, ATS scoring and the skill rows; JSON is written once for storage
+        List<SkillExtraction> skillExtractions = new ArrayList<>(extractedSkills.size());
+        for (int i = 0; i < extractedSkills.size(); i++) {
+            skillExtractions.add(new SkillExtraction(null, extractedSkills.skillName(i),
+                    extractedSkills.category(i).getDisplayName(), Math.round(extractedSkills.confidence(i) * 100.0) / 100.0,
+                    extractedSkills.mentionCount(i), null, resume));
+        }
+        resume.setExtractedSkills(extractedSkills);
+        resume.setSkillsJson(SkillsJsonWriter.write(extractedSkills));
+        resume.setSkillExtractions(skillExtractions);
     }
 
-    private double calculateSkillConfidence(String text, String skill) {
-        String lowerText = text.toLowerCase();
+    private double calculateSkillConfidence(ParsedDocument document, List<ParsedDocument.Span> scope, String skill,
+                                            double weight) {
         String lowerSkill = skill.toLowerCase();
 
-        double confidence = 0.6; // Base confidence
+        double confidence = weight; // Base confidence of the skill
 
         // Increase confidence based on context
         String[] positiveContexts = {
@@ -104,23 +78,23 @@ public class SkillsProcessor {
         };
 
         for (String context : positiveContexts) {
-            if (lowerText.contains(context + " " + lowerSkill) ||
-                    lowerText.contains(lowerSkill + " " + context)) {
+            if (document.contains(context + " " + lowerSkill, scope) ||
+                    document.contains(lowerSkill + " " + context, scope)) {
                 confidence += 0.1;
             }
         }
 
         // Check for skill variations or versions
-        if (lowerText.contains(lowerSkill + ".js") ||
-                lowerText.contains(lowerSkill + " framework") ||
-                lowerText.contains(lowerSkill + " development") ||
-                lowerText.contains(lowerSkill + " programming")) {
+        if (document.contains(lowerSkill + ".js", scope) ||
+                document.contains(lowerSkill + " framework", scope) ||
+                document.contains(lowerSkill + " development", scope) ||
+                document.contains(lowerSkill + " programming", scope)) {
             confidence += 0.1;
         }
 
         // Check for proficiency levels
-        if (lowerText.contains("expert " + lowerSkill) ||
-                lowerText.contains("advanced " + lowerSkill)) {
+        if (document.contains("expert " + lowerSkill, scope) ||
+                document.contains("advanced " + lowerSkill, scope)) {
             confidence += 0.2;
         }
 
@@ -128,25 +102,32 @@ public class SkillsProcessor {
     }
 
     public int countSkillsByCategory(Resume resume, String category) {
-        String skillsJson = resume.getSkillsJson();
-        if (skillsJson == null || skillsJson.equals("[]")) {
-            return 0;
+        ExtractedSkills extractedSkills = resume.getExtractedSkills();
+        if (extractedSkills != null) {
+            SkillCategory skillCategory = SkillCategory.fromDisplayName(category);
+            return skillCategory != null ? extractedSkills.countByCategory(skillCategory) : 0;
         }
 
-        return (int) skillsJson.chars().filter(ch -> ch == '{').count();
+        // Resumes loaded from the database only have their skill rows
+        if (resume.getSkillExtractions() == null) {
+            return 0;
+        }
+        return (int) resume.getSkillExtractions().stream()
+                .filter(skill -> category.equalsIgnoreCase(skill.getCategory()))
+                .count();
     }
 
-    public List<String> extractSoftSkills(String text) {
-        List<String> softSkills = Arrays.asList(
-                "Leadership", "Communication", "Problem Solving", "Teamwork", "Creativity",
-                "Critical Thinking", "Time Management", "Adaptability", "Work Ethic",
-                "Interpersonal Skills", "Project Management", "Analytical Skills");
-
+    public List<String> extractSoftSkills(ParsedDocument document) {
+        SkillTaxonomy taxonomy = taxonomies.current();
         List<String> foundSoftSkills = new ArrayList<>();
-        String lowerText = text.toLowerCase();
+        boolean[] mentioned = new boolean[taxonomy.getSoftSkillMatcher().size()];
+        for (ParsedDocument.Span span : document.scope(SKILL_SECTIONS)) {
+            taxonomy.getSoftSkillMatcher().scan(document.getLowerText(), span.start(), span.end(),
+                    (termId, start, end) -> mentioned[termId] = true);
+        }
 
-        for (String skill : softSkills) {
-            if (isSkillPresentInContext(lowerText, skill.toLowerCase())) {
+        for (String skill : taxonomy.getSoftSkills()) {
+            if (mentioned[taxonomy.getSoftSkillMatcher().idOf(skill)]) {
                 foundSoftSkills.add(skill);
             }
         }
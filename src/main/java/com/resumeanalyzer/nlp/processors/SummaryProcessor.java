@@ -1,12 +1,21 @@
 package com.resumeanalyzer.nlp.processors;
 
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.document.SectionType;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 public class SummaryProcessor {
 
-    public void generateSummary(Resume resume, String text) {
+    // A "Scrum Master" under experience is no Master's degree
+    private static final Set<SectionType> EDUCATION_SECTIONS = EnumSet.of(SectionType.EDUCATION);
+
+    public void generateSummary(Resume resume, ParsedDocument document) {
         StringBuilder summary = new StringBuilder();
         
         // Add experience information
@@ -21,20 +30,19 @@ public class SummaryProcessor {
         }
         
         // Count skills by category
-        String skillsJson = resume.getSkillsJson();
-        if (skillsJson != null && !skillsJson.equals("[]")) {
-            long skillCount = skillsJson.chars().filter(ch -> ch == '{').count();
+        int skillCount = countSkills(resume);
+        if (skillCount > 0) {
             summary.append(String.format("Skilled in %d technologies across multiple domains. ", skillCount));
         }
         
         // Add domain expertise if detected
-        String domainExpertise = detectDomainExpertise(text);
+        String domainExpertise = detectDomainExpertise(document);
         if (!domainExpertise.isEmpty()) {
             summary.append(String.format("Specializes in %s. ", domainExpertise));
         }
         
         // Add education summary
-        String educationLevel = detectEducationLevel(text);
+        String educationLevel = detectEducationLevel(document);
         if (!educationLevel.isEmpty()) {
             summary.append(String.format("Holds %s degree. ", educationLevel));
         }
@@ -42,58 +50,64 @@ public class SummaryProcessor {
         resume.setSummary(summary.toString().trim());
     }
 
-    private String detectDomainExpertise(String text) {
-        String lowerText = text.toLowerCase();
-        
-        if (countOccurrences(lowerText, new String[]{"web", "frontend", "react", "angular", "vue"}) >= 3) {
+    private int countSkills(Resume resume) {
+        if (resume.getExtractedSkills() != null) {
+            return resume.getExtractedSkills().size();
+        }
+        return resume.getSkillExtractions() != null ? resume.getSkillExtractions().size() : 0;
+    }
+
+    private String detectDomainExpertise(ParsedDocument document) {
+        // The headline under the name names the domain too
+        List<ParsedDocument.Span> scope = List.of(document.whole());
+        if (countOccurrences(document, scope, new String[]{"web", "frontend", "react", "angular", "vue"}) >= 3) {
             return "Frontend Development";
         }
-        if (countOccurrences(lowerText, new String[]{"backend", "api", "server", "database", "microservices"}) >= 3) {
+        if (countOccurrences(document, scope, new String[]{"backend", "api", "server", "database", "microservices"}) >= 3) {
             return "Backend Development";
         }
-        if (countOccurrences(lowerText, new String[]{"fullstack", "full stack", "frontend", "backend"}) >= 2) {
+        if (countOccurrences(document, scope, new String[]{"fullstack", "full stack", "frontend", "backend"}) >= 2) {
             return "Full Stack Development";
         }
-        if (countOccurrences(lowerText, new String[]{"mobile", "android", "ios", "react native", "flutter"}) >= 2) {
+        if (countOccurrences(document, scope, new String[]{"mobile", "android", "ios", "react native", "flutter"}) >= 2) {
             return "Mobile Development";
         }
-        if (countOccurrences(lowerText, new String[]{"data science", "machine learning", "ai", "analytics", "python"}) >= 3) {
+        if (countOccurrences(document, scope, new String[]{"data science", "machine learning", "ai", "analytics", "python"}) >= 3) {
             return "Data Science & Analytics";
         }
-        if (countOccurrences(lowerText, new String[]{"devops", "cloud", "aws", "docker", "kubernetes"}) >= 3) {
+        if (countOccurrences(document, scope, new String[]{"devops", "cloud", "aws", "docker", "kubernetes"}) >= 3) {
             return "DevOps & Cloud";
         }
         
         return "";
     }
 
-    private String detectEducationLevel(String text) {
-        String lowerText = text.toLowerCase();
-        
-        if (lowerText.contains("phd") || lowerText.contains("doctorate")) {
+    private String detectEducationLevel(ParsedDocument document) {
+        List<ParsedDocument.Span> scope = document.scope(EDUCATION_SECTIONS);
+        if (document.contains("phd", scope) || document.contains("doctorate", scope)) {
             return "PhD/Doctorate";
         }
-        if (lowerText.contains("master") || lowerText.contains("mba")) {
+        if (document.contains("master", scope) || document.contains("mba", scope)) {
             return "Master's";
         }
-        if (lowerText.contains("bachelor")) {
+        if (document.contains("bachelor", scope)) {
             return "Bachelor's";
         }
         
         return "";
     }
 
-    private int countOccurrences(String text, String[] keywords) {
+    private int countOccurrences(ParsedDocument document, List<ParsedDocument.Span> scope, String[] keywords) {
         int count = 0;
         for (String keyword : keywords) {
-            if (text.contains(keyword)) {
+            if (document.contains(keyword, scope)) {
                 count++;
             }
         }
         return count;
     }
 
-    public String generateDetailedSummary(Resume resume, String text) {
+    public String generateDetailedSummary(Resume resume, ParsedDocument document) {
         StringBuilder detailed = new StringBuilder();
         
         // Personal info summary
@@ -106,7 +120,7 @@ public class SummaryProcessor {
             detailed.append(resume.getSeniority().toLowerCase()).append(" ");
         }
         
-        String domain = detectDomainExpertise(text);
+        String domain = detectDomainExpertise(document);
         if (!domain.isEmpty()) {
             detailed.append(domain.toLowerCase()).append(" professional ");
         } else {
@@ -118,9 +132,8 @@ public class SummaryProcessor {
         }
         
         // Skills summary
-        String skillsJson = resume.getSkillsJson();
-        if (skillsJson != null && !skillsJson.equals("[]")) {
-            long skillCount = skillsJson.chars().filter(ch -> ch == '{').count();
+        int skillCount = countSkills(resume);
+        if (skillCount > 0) {
             detailed.append(String.format("Demonstrates proficiency in %d technologies ", skillCount));
             detailed.append("spanning multiple technical domains. ");
         }
@@ -128,7 +141,7 @@ public class SummaryProcessor {
         return detailed.toString().trim();
     }
 
-    public double calculateOverallScore(Resume resume, String text) {
+    public double calculateOverallScore(Resume resume, ParsedDocument document) {
         double score = 0.0;
         
         // Experience weight: 30%
@@ -137,14 +150,13 @@ public class SummaryProcessor {
         }
         
         // Skills weight: 40%
-        String skillsJson = resume.getSkillsJson();
-        if (skillsJson != null && !skillsJson.equals("[]")) {
-            long skillCount = skillsJson.chars().filter(ch -> ch == '{').count();
+        int skillCount = countSkills(resume);
+        if (skillCount > 0) {
             score += Math.min(skillCount * 0.02, 0.4);
         }
         
         // Education weight: 20%
-        String educationLevel = detectEducationLevel(text);
+        String educationLevel = detectEducationLevel(document);
         switch (educationLevel) {
             case "PhD/Doctorate": score += 0.2; break;
             case "Master's": score += 0.15; break;
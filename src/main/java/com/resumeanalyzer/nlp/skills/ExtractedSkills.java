@@ -0,0 +1,114 @@
+package com.resumeanalyzer.nlp.skills;
+
+import java.util.Arrays;
+
+/**
+ * Skills found in one resume, stored as parallel primitive arrays: the interned
+ * dictionary id of each skill, its category, confidence and mention count.
+ * Names are resolved through the dictionary's shared name table, so no strings
+ * are created per resume. Instances are immutable once built.
+ */
+public final class ExtractedSkills {
+
+    private final String[] skillNames;
+    private final int[] skillIds;
+    private final SkillCategory[] categories;
+    private final float[] confidences;
+    private final int[] mentionCounts;
+    private final int size;
+
+    private ExtractedSkills(Builder builder) {
+        this.skillNames = builder.skillNames;
+        this.size = builder.size;
+        this.skillIds = Arrays.copyOf(builder.skillIds, size);
+        this.categories = Arrays.copyOf(builder.categories, size);
+        this.confidences = Arrays.copyOf(builder.confidences, size);
+        this.mentionCounts = Arrays.copyOf(builder.mentionCounts, size);
+    }
+
+    /**
+     * @param skillNames display names indexed by skill id; shared, never modified
+     */
+    public static Builder builder(String[] skillNames) {
+        return new Builder(skillNames);
+    }
+
+    /**
+     * Whether the skill ids index into this name table, i.e. were found with the same dictionary.
+     */
+    public boolean usesNames(String[] dictionaryNames) {
+        return skillNames == dictionaryNames;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int skillId(int index) {
+        return skillIds[index];
+    }
+
+    public String skillName(int index) {
+        return skillNames[skillIds[index]];
+    }
+
+    public SkillCategory category(int index) {
+        return categories[index];
+    }
+
+    public float confidence(int index) {
+        return confidences[index];
+    }
+
+    public int mentionCount(int index) {
+        return mentionCounts[index];
+    }
+
+    public int countByCategory(SkillCategory category) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (categories[i] == category) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static final class Builder {
+
+        private final String[] skillNames;
+        private int[] skillIds = new int[16];
+        private SkillCategory[] categories = new SkillCategory[16];
+        private float[] confidences = new float[16];
+        private int[] mentionCounts = new int[16];
+        private int size;
+
+        private Builder(String[] skillNames) {
+            this.skillNames = skillNames;
+        }
+
+        public Builder add(int skillId, SkillCategory category, float confidence, int mentionCount) {
+            if (size == skillIds.length) {
+                int capacity = size * 2;
+                skillIds = Arrays.copyOf(skillIds, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                confidences = Arrays.copyOf(confidences, capacity);
+                mentionCounts = Arrays.copyOf(mentionCounts, capacity);
+            }
+            skillIds[size] = skillId;
+            categories[size] = category;
+            confidences[size] = confidence;
+            mentionCounts[size] = mentionCount;
+            size++;
+            return this;
+        }
+
+        public ExtractedSkills build() {
+            return new ExtractedSkills(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.resumeanalyzer.nlp.skills;
+
+public enum SkillCategory {
+    PROGRAMMING_LANGUAGES("Programming Languages"),
+    WEB_TECHNOLOGIES("Web Technologies"),
+    FRAMEWORKS("Frameworks"),
+    DATABASES("Databases"),
+    CLOUD_DEVOPS("Cloud & DevOps"),
+    TOOLS_OTHERS("Tools & Others"),
+    DATA_SCIENCE_AI("Data Science & AI"),
+    MOBILE_DEVELOPMENT("Mobile Development");
+
+    private final String displayName;
+
+    SkillCategory(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Looks a category up by its display name; returns null for unknown names.
+     */
+    public static SkillCategory fromDisplayName(String displayName) {
+        for (SkillCategory category : values()) {
+            if (category.displayName.equalsIgnoreCase(displayName)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.resumeanalyzer.nlp.skills;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+/**
+ * Writes extracted skills in the stored skillsJson format with a streaming
+ * generator, without building an intermediate tree or formatting strings.
+ */
+public final class SkillsJsonWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private SkillsJsonWriter() {
+    }
+
+    public static String write(ExtractedSkills skills) {
+        StringWriter output = new StringWriter(64 + skills.size() * 96);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            generator.writeStartArray();
+            for (int i = 0; i < skills.size(); i++) {
+                generator.writeStartObject();
+                generator.writeStringField("name", skills.skillName(i));
+                generator.writeStringField("category", skills.category(i).getDisplayName());
+                // Two decimals, as the format has always had
+                generator.writeFieldName("confidence");
+                generator.writeNumber(BigDecimal.valueOf(Math.round(skills.confidence(i) * 100.0), 2));
+                generator.writeNumberField("mentionCount", skills.mentionCount(i));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            // StringWriter does not throw
+            throw new UncheckedIOException(e);
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.resumeanalyzer.nlp.taxonomy;
+
+/**
+ * Level of a degree, highest first.
+ */
+public enum DegreeLevel {
+    DOCTORATE("PhD/Doctorate"),
+    MASTER("Master's"),
+    BACHELOR("Bachelor's"),
+    ASSOCIATE("Associate/Diploma"),
+    UNSPECIFIED("Not Specified");
+
+    private final String displayName;
+
+    DegreeLevel(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
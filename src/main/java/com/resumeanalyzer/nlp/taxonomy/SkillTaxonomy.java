@@ -0,0 +1,412 @@
+package com.resumeanalyzer.nlp.taxonomy;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.document.SectionType;
+import com.resumeanalyzer.nlp.features.AtsVocabulary;
+import com.resumeanalyzer.nlp.matcher.KeywordMatcher;
+import com.resumeanalyzer.nlp.skills.SkillCategory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Every term list the analyzer matches text against, compiled from the taxonomy
+ * file into matchers: dictionary skills with their categories, aliases and
+ * weights, soft skills, the ATS vocabulary, degrees, fields of study, job
+ * titles and section headings. Snapshots are immutable; a changed file is compiled into a new
+ * snapshot that replaces the old one as a whole (see {@link SkillTaxonomyProvider}).
+ *
+ * Skills are found with one Aho-Corasick pass whose cost depends on the text and
+ * the number of hits, not on the size of the dictionary.
+ */
+public final class SkillTaxonomy {
+
+    public static final float DEFAULT_WEIGHT = 0.6f;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema SCHEMA = CsvSchema.emptySchema().withHeader().withComments();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("\\|");
+
+    private final String fingerprint;
+
+    // Alternative spelling -> canonical name, both lowercase
+    private final Map<String, String> aliases;
+
+    // Term ids below skillNames.length are skill ids, the rest are aliases mapped through skillOfTerm
+    private final KeywordMatcher skillMatcher;
+    private final int[] skillOfTerm;
+    private final String[] skillNames;
+    private final SkillCategory[][] skillCategories;
+    private final int[][] skillPositions;
+    private final float[] skillWeights;
+
+    private final List<String> softSkills;
+    private final KeywordMatcher softSkillMatcher;
+    private final AtsVocabulary atsVocabulary;
+    private final List<DegreeTerm> degreeTerms;
+    private final List<String> studyFields;
+    private final List<String> jobTitles;
+    private final Map<String, SectionType> sectionHeadings;
+
+    private SkillTaxonomy(Compiler compiler, String fingerprint) {
+        this.fingerprint = fingerprint;
+        this.aliases = Map.copyOf(compiler.aliases);
+
+        int skillCount = compiler.skillNames.size();
+        this.skillNames = compiler.skillNames.toArray(new String[0]);
+        this.skillCategories = new SkillCategory[skillCount][];
+        this.skillPositions = new int[skillCount][];
+        this.skillWeights = new float[skillCount];
+        KeywordMatcher.Builder skillTerms = KeywordMatcher.builder();
+        for (int skillId = 0; skillId < skillCount; skillId++) {
+            skillTerms.add(normalize(skillNames[skillId]));
+            skillCategories[skillId] = compiler.skillCategories.get(skillId).toArray(new SkillCategory[0]);
+            skillPositions[skillId] = compiler.skillPositions.get(skillId).stream().mapToInt(Integer::intValue).toArray();
+            skillWeights[skillId] = compiler.skillWeights.get(skillId);
+        }
+        List<Integer> aliasTargets = new ArrayList<>();
+        for (Map.Entry<String, String> alias : aliases.entrySet()) {
+            Integer skillId = compiler.skillIds.get(alias.getValue());
+            if (skillId != null) {
+                skillTerms.add(alias.getKey());
+                aliasTargets.add(skillId);
+            }
+        }
+        this.skillMatcher = skillTerms.build();
+        this.skillOfTerm = new int[skillMatcher.size()];
+        for (int termId = 0; termId < skillOfTerm.length; termId++) {
+            skillOfTerm[termId] = termId < skillCount ? termId : aliasTargets.get(termId - skillCount);
+        }
+
+        this.softSkills = List.copyOf(compiler.softSkills);
+        this.softSkillMatcher = KeywordMatcher.of(softSkills);
+        this.atsVocabulary = new AtsVocabulary(compiler.atsKeywords, compiler.atsSkills, aliases,
+                this::canonical, compiler.impliedSkills);
+        List<DegreeTerm> degrees = new ArrayList<>(compiler.degreeTerms);
+        degrees.sort(Comparator.comparing(DegreeTerm::level));
+        this.degreeTerms = List.copyOf(degrees);
+        this.studyFields = List.copyOf(compiler.studyFields);
+        this.jobTitles = List.copyOf(compiler.jobTitles);
+        this.sectionHeadings = Map.copyOf(compiler.sectionHeadings);
+    }
+
+    /**
+     * Reads and compiles a taxonomy file.
+     *
+     * @throws IOException              if the file cannot be read or is not valid CSV
+     * @throws IllegalArgumentException if an entry is invalid
+     */
+    public static SkillTaxonomy read(InputStream input) throws IOException {
+        byte[] content = input.readAllBytes();
+        List<TaxonomyEntry> entries;
+        try (MappingIterator<TaxonomyEntry> rows = CSV_MAPPER.readerFor(TaxonomyEntry.class).with(SCHEMA)
+                .readValues(content)) {
+            entries = rows.readAll();
+        }
+        return compile(entries, fingerprintOf(content));
+    }
+
+    /**
+     * @throws IllegalArgumentException if an entry is invalid
+     */
+    public static SkillTaxonomy compile(List<TaxonomyEntry> entries, String fingerprint) {
+        Compiler compiler = new Compiler();
+        for (int row = 0; row < entries.size(); row++) {
+            try {
+                compiler.add(entries.get(row), row);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Taxonomy entry " + (row + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        compiler.validate();
+        return new SkillTaxonomy(compiler, fingerprint);
+    }
+
+    /**
+     * Changes whenever the taxonomy file changes, so results built from an older taxonomy are recomputed.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Lowercased name with whitespace collapsed, or the name an alias stands for.
+     */
+    public String canonical(String name) {
+        String normalized = normalize(name);
+        return aliases.getOrDefault(normalized, normalized);
+    }
+
+    public int aliasCount() {
+        return aliases.size();
+    }
+
+    public int skillCount() {
+        return skillNames.length;
+    }
+
+    /**
+     * Display names indexed by skill id; shared by every result of this snapshot, never modified.
+     */
+    public String[] skillNames() {
+        return skillNames;
+    }
+
+    /**
+     * Id of a skill name or one of its aliases (case-insensitive), or -1 when it is not in the dictionary.
+     */
+    public int skillIdOf(String name) {
+        int termId = skillMatcher.idOf(canonical(name));
+        return termId >= 0 ? skillOfTerm[termId] : -1;
+    }
+
+    public float weightOf(int skillId) {
+        return skillWeights[skillId];
+    }
+
+    /**
+     * Dictionary skills mentioned in the lowercased text, by name or alias, once per category of
+     * the skill, in category order and then in the order of the taxonomy file.
+     */
+    public List<SkillMention> findSkills(CharSequence lowerText) {
+        return findSkills(lowerText, List.of(new ParsedDocument.Span(0, 0, 0, lowerText.length())));
+    }
+
+    /**
+     * Like {@link #findSkills(CharSequence)}, counting only mentions within the spans.
+     */
+    public List<SkillMention> findSkills(CharSequence lowerText, List<ParsedDocument.Span> scope) {
+        int[][] hits = {new int[16]};
+        int[] hitCount = {0};
+        for (ParsedDocument.Span span : scope) {
+            skillMatcher.scan(lowerText, span.start(), span.end(), (termId, start, end) -> {
+                if (hitCount[0] == hits[0].length) {
+                    hits[0] = Arrays.copyOf(hits[0], hitCount[0] * 2);
+                }
+                hits[0][hitCount[0]++] = skillOfTerm[termId];
+            });
+        }
+        int[] skillIds = hits[0];
+        Arrays.sort(skillIds, 0, hitCount[0]);
+
+        List<SkillMention> mentions = new ArrayList<>();
+        for (int i = 0; i < hitCount[0]; ) {
+            int skillId = skillIds[i];
+            int mentionCount = 0;
+            while (i < hitCount[0] && skillIds[i] == skillId) {
+                mentionCount++;
+                i++;
+            }
+            for (int c = 0; c < skillCategories[skillId].length; c++) {
+                mentions.add(new SkillMention(skillId, skillCategories[skillId][c], skillPositions[skillId][c],
+                        mentionCount));
+            }
+        }
+        mentions.sort(Comparator.comparing(SkillMention::category).thenComparingInt(SkillMention::position));
+        return mentions;
+    }
+
+    public List<String> getSoftSkills() {
+        return softSkills;
+    }
+
+    /**
+     * Matcher over {@link #getSoftSkills()}, term ids in list order.
+     */
+    public KeywordMatcher getSoftSkillMatcher() {
+        return softSkillMatcher;
+    }
+
+    public AtsVocabulary getAtsVocabulary() {
+        return atsVocabulary;
+    }
+
+    /**
+     * Lowercase degree names and abbreviations, highest level first.
+     */
+    public List<DegreeTerm> getDegreeTerms() {
+        return degreeTerms;
+    }
+
+    public List<String> getStudyFields() {
+        return studyFields;
+    }
+
+    public List<String> getJobTitles() {
+        return jobTitles;
+    }
+
+    /**
+     * Section of a heading, lowercase with single spaces (e.g. "work experience"), or null if it is not a known heading.
+     */
+    public SectionType sectionOf(String heading) {
+        return sectionHeadings.get(heading);
+    }
+
+    private static String normalize(String name) {
+        return WHITESPACE.matcher(name.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    private static String fingerprintOf(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @param position row of the skill's entry in the taxonomy file
+     */
+    public record SkillMention(int skillId, SkillCategory category, int position, int mentionCount) {
+    }
+
+    public record DegreeTerm(String term, DegreeLevel level) {
+    }
+
+    // Collects the entries of one file in order
+    private static final class Compiler {
+
+        private final Map<String, String> aliases = new LinkedHashMap<>();
+        private final Map<String, Integer> skillIds = new HashMap<>();
+        private final List<String> skillNames = new ArrayList<>();
+        private final List<List<SkillCategory>> skillCategories = new ArrayList<>();
+        private final List<List<Integer>> skillPositions = new ArrayList<>();
+        private final List<Float> skillWeights = new ArrayList<>();
+        private final Map<String, List<String>> impliedSkills = new HashMap<>();
+        private final List<String> softSkills = new ArrayList<>();
+        private final List<String> atsSkills = new ArrayList<>();
+        private final List<String> atsKeywords = new ArrayList<>();
+        private final List<DegreeTerm> degreeTerms = new ArrayList<>();
+        private final List<String> studyFields = new ArrayList<>();
+        private final List<String> jobTitles = new ArrayList<>();
+        private final Map<String, SectionType> sectionHeadings = new HashMap<>();
+
+        void add(TaxonomyEntry entry, int row) {
+            String kind = required(entry.getKind(), "kind").toLowerCase(Locale.ROOT);
+            String name = required(entry.getName(), "name").trim();
+            String canonicalName = normalize(name);
+            switch (kind) {
+                case "skill" -> {
+                    SkillCategory category = parseEnum(SkillCategory.class, required(entry.getCategory(), "category"));
+                    int skillId = skillIds.computeIfAbsent(canonicalName, key -> {
+                        skillNames.add(name);
+                        skillCategories.add(new ArrayList<>());
+                        skillPositions.add(new ArrayList<>());
+                        skillWeights.add(DEFAULT_WEIGHT);
+                        return skillNames.size() - 1;
+                    });
+                    skillCategories.get(skillId).add(category);
+                    skillPositions.get(skillId).add(row);
+                    if (!isBlank(entry.getWeight())) {
+                        skillWeights.set(skillId, parseWeight(entry.getWeight()));
+                    }
+                    addAliases(canonicalName, entry.getAliases());
+                    List<String> implied = split(entry.getImplies());
+                    if (!implied.isEmpty()) {
+                        impliedSkills.put(canonicalName, implied);
+                    }
+                }
+                case "soft_skill" -> softSkills.add(name);
+                case "ats_skill" -> {
+                    atsSkills.add(canonicalName);
+                    addAliases(canonicalName, entry.getAliases());
+                }
+                case "ats_keyword" -> atsKeywords.add(canonicalName);
+                case "degree" -> {
+                    DegreeLevel level = parseEnum(DegreeLevel.class, required(entry.getCategory(), "category"));
+                    degreeTerms.add(new DegreeTerm(canonicalName, level));
+                    for (String alias : split(entry.getAliases())) {
+                        degreeTerms.add(new DegreeTerm(alias, level));
+                    }
+                }
+                case "study_field" -> studyFields.add(name);
+                case "job_title" -> jobTitles.add(name);
+                case "section" -> {
+                    SectionType type = parseEnum(SectionType.class, required(entry.getCategory(), "category"));
+                    addHeading(canonicalName, type);
+                    for (String alias : split(entry.getAliases())) {
+                        addHeading(alias, type);
+                    }
+                }
+                default -> throw new IllegalArgumentException("unknown kind '" + entry.getKind() + "'");
+            }
+        }
+
+        void validate() {
+            for (Map.Entry<String, String> alias : aliases.entrySet()) {
+                if (skillIds.containsKey(alias.getKey()) || atsSkills.contains(alias.getKey())) {
+                    throw new IllegalArgumentException("Alias '" + alias.getKey() + "' is also a skill name");
+                }
+            }
+        }
+
+        private void addAliases(String canonicalName, String column) {
+            for (String alias : split(column)) {
+                String previous = aliases.putIfAbsent(alias, canonicalName);
+                if (previous != null && !previous.equals(canonicalName)) {
+                    throw new IllegalArgumentException("alias '" + alias + "' is already used for '" + previous + "'");
+                }
+            }
+        }
+
+        private void addHeading(String heading, SectionType type) {
+            SectionType previous = sectionHeadings.putIfAbsent(heading, type);
+            if (previous != null && previous != type) {
+                throw new IllegalArgumentException("heading '" + heading + "' is already used for " + previous);
+            }
+        }
+
+        private static List<String> split(String column) {
+            if (isBlank(column)) {
+                return List.of();
+            }
+            return LIST_SEPARATOR.splitAsStream(column)
+                    .map(SkillTaxonomy::normalize)
+                    .filter(value -> !value.isEmpty())
+                    .toList();
+        }
+
+        private static String required(String value, String column) {
+            if (isBlank(value)) {
+                throw new IllegalArgumentException("missing " + column);
+            }
+            return value;
+        }
+
+        private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+            try {
+                return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown category '" + value + "', expected one of "
+                        + Arrays.toString(type.getEnumConstants()));
+            }
+        }
+
+        private static float parseWeight(String value) {
+            float weight;
+            try {
+                weight = Float.parseFloat(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("weight '" + value + "' is not a number");
+            }
+            if (!(weight >= 0 && weight <= 1)) {
+                throw new IllegalArgumentException("weight " + weight + " is not between 0 and 1");
+            }
+            return weight;
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.resumeanalyzer.nlp.taxonomy;
+
+/**
+ * Published after a reloaded taxonomy replaced the previous one.
+ */
+public record SkillTaxonomyChangedEvent(SkillTaxonomy taxonomy) {
+}
@@ -0,0 +1,89 @@
+package com.resumeanalyzer.nlp.taxonomy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Holds the current {@link SkillTaxonomy}. When the taxonomy is a file it is
+ * checked for changes periodically; a changed file is compiled completely
+ * before it replaces the current snapshot in a single write, so a request
+ * always works against one whole taxonomy. A file that fails to compile is
+ * logged and the previous snapshot stays in use.
+ */
+@Component
+public class SkillTaxonomyProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillTaxonomyProvider.class);
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${analyzer.taxonomy.location:classpath:taxonomy.csv}")
+    private Resource location;
+
+    private volatile SkillTaxonomy current;
+
+    // Last modification time seen by the reload check, which only runs on the scheduler thread
+    private long lastModified;
+
+    @PostConstruct
+    public void initialize() {
+        try {
+            lastModified = location.isFile() ? location.lastModified() : 0;
+            current = read();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot load the skill taxonomy from " + location + ": " + e.getMessage(), e);
+        }
+        log.info("Loaded skill taxonomy {} from {} ({} skills, {} aliases)", current.getFingerprint(), location,
+                current.skillCount(), current.aliasCount());
+    }
+
+    /**
+     * The snapshot to use for one unit of work; callers keep the reference rather than asking again.
+     */
+    public SkillTaxonomy current() {
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${analyzer.taxonomy.reload-interval:30s}",
+            initialDelayString = "${analyzer.taxonomy.reload-interval:30s}")
+    public void reloadIfChanged() {
+        if (!location.isFile()) {
+            return;
+        }
+        try {
+            long modified = location.lastModified();
+            if (modified == lastModified) {
+                return;
+            }
+            lastModified = modified;
+            SkillTaxonomy reloaded = read();
+            if (reloaded.getFingerprint().equals(current.getFingerprint())) {
+                return;
+            }
+            current = reloaded;
+            log.info("Reloaded skill taxonomy {} from {} ({} skills, {} aliases)", reloaded.getFingerprint(),
+                    location, reloaded.skillCount(), reloaded.aliasCount());
+            eventPublisher.publishEvent(new SkillTaxonomyChangedEvent(reloaded));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Keeping skill taxonomy {}; {} could not be loaded: {}", current.getFingerprint(), location,
+                    e.getMessage());
+        }
+    }
+
+    private SkillTaxonomy read() throws IOException {
+        try (InputStream input = location.getInputStream()) {
+            return SkillTaxonomy.read(input);
+        }
+    }
+}
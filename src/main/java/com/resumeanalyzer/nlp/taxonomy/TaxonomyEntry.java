@@ -0,0 +1,21 @@
+package com.resumeanalyzer.nlp.taxonomy;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the taxonomy file. Lists within a column are separated by {@code |}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaxonomyEntry {
+
+    private String kind;
+    private String category;
+    private String name;
+    private String aliases;
+    private String implies;
+    private String weight;
+}
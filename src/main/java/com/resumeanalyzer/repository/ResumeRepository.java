@@ -1,10 +1,42 @@
 package com.resumeanalyzer.repository;
 
 import com.resumeanalyzer.model.Resume;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
 
+    /**
+     * Keyset page of resume headers ordered by id: returns up to {@code limit} rows with an id
+     * greater than {@code afterId}. Null filters are ignored.
+     */
+    @Query("SELECT r.id AS id, r.fileName AS fileName, r.fullName AS fullName, r.email AS email, " +
+           "r.phoneNumber AS phoneNumber, r.address AS address, r.linkedinUrl AS linkedinUrl, " +
+           "r.githubUrl AS githubUrl, r.summary AS summary, r.totalExperienceYears AS totalExperienceYears, " +
+           "r.seniority AS seniority, r.skillMatchScore AS skillMatchScore, r.createdAt AS createdAt " +
+           "FROM Resume r " +
+           "WHERE r.id > :afterId " +
+           "AND (:seniority IS NULL OR r.seniority = :seniority) " +
+           "AND (:minYears IS NULL OR r.totalExperienceYears >= :minYears) " +
+           "AND (:maxYears IS NULL OR r.totalExperienceYears <= :maxYears) " +
+           "AND (:createdFrom IS NULL OR r.createdAt >= :createdFrom) " +
+           "AND (:createdTo IS NULL OR r.createdAt < :createdTo) " +
+           "ORDER BY r.id")
+    List<ResumeSummaryView> findSummariesAfter(@Param("afterId") long afterId,
+                                               @Param("seniority") String seniority,
+                                               @Param("minYears") Integer minYears,
+                                               @Param("maxYears") Integer maxYears,
+                                               @Param("createdFrom") LocalDateTime createdFrom,
+                                               @Param("createdTo") LocalDateTime createdTo,
+                                               Limit limit);
+
+    @Query("SELECT r.id AS id, r.skillsJson AS skillsJson FROM Resume r WHERE r.id > :afterId ORDER BY r.id")
+    List<ResumeSkillsView> findSkillsAfter(@Param("afterId") long afterId, Limit limit);
 }
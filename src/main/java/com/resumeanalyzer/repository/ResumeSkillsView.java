@@ -0,0 +1,11 @@
+package com.resumeanalyzer.repository;
+
+/**
+ * Id and stored skill list of a resume, used to rebuild the skill index.
+ */
+public interface ResumeSkillsView {
+
+    Long getId();
+
+    String getSkillsJson();
+}
@@ -0,0 +1,36 @@
+package com.resumeanalyzer.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Header fields of a resume for listings. Queries returning this projection
+ * select only these columns, never the LONGTEXT text or JSON columns.
+ */
+public interface ResumeSummaryView {
+
+    Long getId();
+
+    String getFileName();
+
+    String getFullName();
+
+    String getEmail();
+
+    String getPhoneNumber();
+
+    String getAddress();
+
+    String getLinkedinUrl();
+
+    String getGithubUrl();
+
+    String getSummary();
+
+    Integer getTotalExperienceYears();
+
+    String getSeniority();
+
+    Double getSkillMatchScore();
+
+    LocalDateTime getCreatedAt();
+}
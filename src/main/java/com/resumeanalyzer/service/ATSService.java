@@ -3,8 +3,18 @@ package com.resumeanalyzer.service;
 import com.resumeanalyzer.dto.ATSAnalysisRequest;
 import com.resumeanalyzer.dto.ATSAnalysisResponse;
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.features.FeatureVector;
 
 public interface ATSService {
     ATSAnalysisResponse analyzeATS(Resume resume, ATSAnalysisRequest request);
     Double calculateATSScore(Resume resume, ATSAnalysisRequest request);
+    
+    ATSAnalysisResponse analyzeATS(Resume resume, JobProfile jobProfile);
+    
+    Double calculateATSScore(Resume resume, JobProfile jobProfile);
+    
+    /**
+     * Scores a precomputed feature vector; touches neither the resume entity nor its text.
+     */
+    Double calculateATSScore(FeatureVector features, JobProfile jobProfile);
 }
@@ -3,43 +3,67 @@ package com.resumeanalyzer.service;
 import com.resumeanalyzer.dto.ATSAnalysisRequest;
 import com.resumeanalyzer.dto.ATSAnalysisResponse;
 import com.resumeanalyzer.dto.ATSAnalysisResponse.ATSRecommendation;
+import com.resumeanalyzer.metrics.AnalysisMetrics;
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.features.AtsVocabulary;
+import com.resumeanalyzer.nlp.features.FeatureVector;
+import com.resumeanalyzer.nlp.features.TermMask;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class ATSServiceImpl implements ATSService {
 
+    @Autowired
+    private JobProfileCache jobProfileCache;
+
+    @Autowired
+    private ResumeFeatureCache featureCache;
+
+    @Autowired
+    private AnalysisMetrics metrics;
+
     @Override
     public ATSAnalysisResponse analyzeATS(Resume resume, ATSAnalysisRequest request) {
+        return analyzeATS(resume, jobProfileCache.get(request.getJobDescription()));
+    }
+
+    @Override
+    public Double calculateATSScore(Resume resume, ATSAnalysisRequest request) {
+        return calculateATSScore(resume, jobProfileCache.get(request.getJobDescription()));
+    }
+
+    @Override
+    public ATSAnalysisResponse analyzeATS(Resume resume, JobProfile jobProfile) {
+        return metrics.timeAts("analyze", () -> buildAnalysis(resume, jobProfile));
+    }
+
+    private ATSAnalysisResponse buildAnalysis(Resume resume, JobProfile jobProfile) {
         ATSAnalysisResponse response = new ATSAnalysisResponse();
         
-        // Extract keywords from job description
-        List<String> jobKeywords = extractKeywords(request.getJobDescription());
-        List<String> jobSkills = extractSkills(request.getJobDescription());
-        
-        // Extract resume content
-        String resumeText = resume.getOriginalText() != null ? resume.getOriginalText().toLowerCase() : "";
-        List<String> resumeSkills = resume.getSkillExtractions() != null ? 
-                resume.getSkillExtractions().stream()
-                    .map(skill -> skill.getSkillName().toLowerCase())
-                    .collect(Collectors.toList()) : 
-                new ArrayList<>();
-        
-        // Calculate matches
-        List<String> matchingSkills = findMatchingSkills(resumeSkills, jobSkills);
-        List<String> missingSkills = findMissingSkills(resumeSkills, jobSkills);
-        List<String> keywordMatches = findKeywordMatches(resumeText, jobKeywords);
-        List<String> missingKeywords = findMissingKeywords(resumeText, jobKeywords);
+        // Keywords and skills of the job description were extracted when the profile was compiled,
+        // those of the resume when it was analyzed
+        FeatureVector features = featureCache.get(resume, jobProfile.getTaxonomy());
+        TermMask jobSkills = jobProfile.getSkillMask();
+        TermMask jobKeywords = jobProfile.getKeywordMask();
+        
+        // Calculate matches once; the lists and the score are all read from the same intersections
+        TermMask matchedSkills = jobSkills.and(features.getSkills());
+        TermMask matchedKeywords = jobKeywords.and(features.getKeywords());
+        AtsVocabulary vocabulary = jobProfile.getVocabulary();
+        List<String> matchingSkills = vocabulary.skills(matchedSkills);
+        List<String> missingSkills = vocabulary.skills(jobSkills.andNot(matchedSkills));
+        List<String> keywordMatches = vocabulary.keywords(matchedKeywords);
+        List<String> missingKeywords = vocabulary.keywords(jobKeywords.andNot(matchedKeywords));
         
         // Calculate ATS score
-        Double atsScore = calculateATSScore(resume, request);
+        Double atsScore = score(matchedSkills.cardinality(), matchedKeywords.cardinality(), features, jobProfile);
         
         // Generate recommendations
         List<ATSRecommendation> recommendations = generateRecommendations(
-                missingSkills, missingKeywords, resume, request);
+                missingSkills, missingKeywords, features.hasExperience(), resume);
         
         // Generate overall feedback
         String overallFeedback = generateOverallFeedback(atsScore, matchingSkills.size(), 
@@ -57,32 +81,38 @@ public class ATSServiceImpl implements ATSService {
     }
 
     @Override
-    public Double calculateATSScore(Resume resume, ATSAnalysisRequest request) {
-        if (request.getJobDescription() == null || request.getJobDescription().trim().isEmpty()) {
+    public Double calculateATSScore(Resume resume, JobProfile jobProfile) {
+        return calculateATSScore(featureCache.get(resume, jobProfile.getTaxonomy()), jobProfile);
+    }
+
+    @Override
+    public Double calculateATSScore(FeatureVector features, JobProfile jobProfile) {
+        requireSameVersion(features, jobProfile);
+        return metrics.timeAts("score", () -> score(jobProfile.getSkillMask().andCardinality(features.getSkills()),
+                jobProfile.getKeywordMask().andCardinality(features.getKeywords()), features, jobProfile));
+    }
+
+    // Masks of different versions index into different vocabularies; ANDing them gives a meaningless score
+    private static void requireSameVersion(FeatureVector features, JobProfile jobProfile) {
+        if (features.getVersion() != jobProfile.getFeatureVersion()) {
+            throw new IllegalArgumentException("Feature vector version " + features.getVersion()
+                    + " does not match job profile " + jobProfile.getId() + " version " + jobProfile.getFeatureVersion());
+        }
+    }
+
+    private Double score(int matchedSkills, int matchedKeywords, FeatureVector features, JobProfile jobProfile) {
+        if (jobProfile.isBlank()) {
             return 0.0;
         }
         
-        String jobDesc = request.getJobDescription().toLowerCase();
-        String resumeText = resume.getOriginalText() != null ? resume.getOriginalText().toLowerCase() : "";
-        
-        // Extract important keywords and skills
-        List<String> jobKeywords = extractKeywords(jobDesc);
-        List<String> jobSkills = extractSkills(jobDesc);
-        
-        List<String> resumeSkills = resume.getSkillExtractions() != null ? 
-                resume.getSkillExtractions().stream()
-                    .map(skill -> skill.getSkillName().toLowerCase())
-                    .collect(Collectors.toList()) : 
-                new ArrayList<>();
-        
         // Calculate skill match percentage
-        double skillMatchScore = calculateSkillMatchPercentage(resumeSkills, jobSkills);
+        double skillMatchScore = matchPercentage(matchedSkills, jobProfile.getSkillMask());
         
         // Calculate keyword match percentage
-        double keywordMatchScore = calculateKeywordMatchPercentage(resumeText, jobKeywords);
+        double keywordMatchScore = matchPercentage(matchedKeywords, jobProfile.getKeywordMask());
         
         // Calculate experience relevance (simplified)
-        double experienceScore = calculateExperienceRelevance(resume, jobDesc);
+        double experienceScore = calculateExperienceRelevance(features, jobProfile.getExperienceBand());
         
         // Weighted average (skills 50%, keywords 30%, experience 20%)
         double finalScore = (skillMatchScore * 0.5) + (keywordMatchScore * 0.3) + (experienceScore * 0.2);
@@ -90,123 +120,34 @@ public class ATSServiceImpl implements ATSService {
         return Math.round(finalScore * 100.0) / 100.0;
     }
     
-    private List<String> extractKeywords(String text) {
-        // Common important keywords in job descriptions
-        String[] commonKeywords = {
-            "experience", "management", "leadership", "team", "project", "development",
-            "analysis", "design", "implementation", "testing", "debugging", "optimization",
-            "collaboration", "communication", "problem solving", "agile", "scrum",
-            "bachelor", "master", "degree", "certification", "years"
-        };
-        
-        List<String> keywords = new ArrayList<>();
-        String lowerText = text.toLowerCase();
+    // Share of the job's terms that the resume covers
+    private static double matchPercentage(int matched, TermMask jobMask) {
+        if (jobMask.isEmpty()) return 100.0;
         
-        for (String keyword : commonKeywords) {
-            if (lowerText.contains(keyword)) {
-                keywords.add(keyword);
-            }
-        }
-        
-        return keywords;
-    }
-    
-    private List<String> extractSkills(String text) {
-        // Common technical skills to look for
-        String[] techSkills = {
-            "java", "python", "javascript", "react", "angular", "vue", "spring", "hibernate",
-            "sql", "mysql", "postgresql", "mongodb", "redis", "docker", "kubernetes",
-            "aws", "azure", "gcp", "git", "jenkins", "maven", "gradle", "junit",
-            "rest", "api", "microservices", "html", "css", "bootstrap", "node.js",
-            "express", "django", "flask", "laravel", "php", "c++", "c#", ".net",
-            "machine learning", "ai", "data science", "pandas", "numpy", "tensorflow"
-        };
-        
-        List<String> skills = new ArrayList<>();
-        String lowerText = text.toLowerCase();
-        
-        for (String skill : techSkills) {
-            if (lowerText.contains(skill)) {
-                skills.add(skill);
-            }
-        }
-        
-        return skills;
+        return (double) matched / jobMask.cardinality() * 100.0;
     }
     
-    private List<String> findMatchingSkills(List<String> resumeSkills, List<String> jobSkills) {
-        return jobSkills.stream()
-                .filter(jobSkill -> resumeSkills.stream()
-                        .anyMatch(resumeSkill -> resumeSkill.contains(jobSkill) || jobSkill.contains(resumeSkill)))
-                .collect(Collectors.toList());
-    }
-    
-    private List<String> findMissingSkills(List<String> resumeSkills, List<String> jobSkills) {
-        return jobSkills.stream()
-                .filter(jobSkill -> resumeSkills.stream()
-                        .noneMatch(resumeSkill -> resumeSkill.contains(jobSkill) || jobSkill.contains(resumeSkill)))
-                .collect(Collectors.toList());
-    }
-    
-    private List<String> findKeywordMatches(String resumeText, List<String> jobKeywords) {
-        return jobKeywords.stream()
-                .filter(keyword -> resumeText.contains(keyword.toLowerCase()))
-                .collect(Collectors.toList());
-    }
-    
-    private List<String> findMissingKeywords(String resumeText, List<String> jobKeywords) {
-        return jobKeywords.stream()
-                .filter(keyword -> !resumeText.contains(keyword.toLowerCase()))
-                .collect(Collectors.toList());
-    }
-    
-    private double calculateSkillMatchPercentage(List<String> resumeSkills, List<String> jobSkills) {
-        if (jobSkills.isEmpty()) return 100.0;
-        
-        long matchingSkills = jobSkills.stream()
-                .mapToLong(jobSkill -> resumeSkills.stream()
-                        .anyMatch(resumeSkill -> resumeSkill.contains(jobSkill) || jobSkill.contains(resumeSkill)) ? 1 : 0)
-                .sum();
-        
-        return (double) matchingSkills / jobSkills.size() * 100.0;
-    }
-    
-    private double calculateKeywordMatchPercentage(String resumeText, List<String> jobKeywords) {
-        if (jobKeywords.isEmpty()) return 100.0;
-        
-        long matchingKeywords = jobKeywords.stream()
-                .mapToLong(keyword -> resumeText.contains(keyword.toLowerCase()) ? 1 : 0)
-                .sum();
-        
-        return (double) matchingKeywords / jobKeywords.size() * 100.0;
-    }
-    
-    private double calculateExperienceRelevance(Resume resume, String jobDescription) {
+    private double calculateExperienceRelevance(FeatureVector features, JobProfile.ExperienceBand experienceBand) {
         // Simple relevance calculation based on experience years and job requirements
-        if (resume.getExperienceExtractions() == null || resume.getExperienceExtractions().isEmpty()) return 50.0;
-        
-        // Calculate total experience in years
-        int totalExperienceMonths = resume.getExperienceExtractions().stream()
-                .mapToInt(exp -> exp.getDurationMonths() != null ? exp.getDurationMonths() : 0)
-                .sum();
-        
-        int totalExperienceYears = totalExperienceMonths / 12;
-        
-        // Look for experience requirements in job description
-        String jobDesc = jobDescription.toLowerCase();
-        if (jobDesc.contains("entry level") || jobDesc.contains("0-2 years")) {
-            return totalExperienceYears >= 0 ? 100.0 : 50.0;
-        } else if (jobDesc.contains("mid level") || jobDesc.contains("3-5 years")) {
-            return totalExperienceYears >= 3 ? 100.0 : Math.max(50.0, totalExperienceYears * 20.0);
-        } else if (jobDesc.contains("senior") || jobDesc.contains("5+ years")) {
-            return totalExperienceYears >= 5 ? 100.0 : Math.max(30.0, totalExperienceYears * 15.0);
+        if (!features.hasExperience()) return 50.0;
+        
+        int totalExperienceYears = features.getExperienceMonths() / 12;
+        
+        // Experience requirements of the job description
+        switch (experienceBand) {
+            case ENTRY:
+                return totalExperienceYears >= 0 ? 100.0 : 50.0;
+            case MID:
+                return totalExperienceYears >= 3 ? 100.0 : Math.max(50.0, totalExperienceYears * 20.0);
+            case SENIOR:
+                return totalExperienceYears >= 5 ? 100.0 : Math.max(30.0, totalExperienceYears * 15.0);
+            default:
+                return Math.min(100.0, totalExperienceYears * 10.0 + 50.0);
         }
-        
-        return Math.min(100.0, totalExperienceYears * 10.0 + 50.0);
     }
     
     private List<ATSRecommendation> generateRecommendations(List<String> missingSkills, 
-            List<String> missingKeywords, Resume resume, ATSAnalysisRequest request) {
+            List<String> missingKeywords, boolean hasExperience, Resume resume) {
         List<ATSRecommendation> recommendations = new ArrayList<>();
         
         // Skills recommendations
@@ -230,7 +171,7 @@ public class ATSServiceImpl implements ATSService {
         }
         
         // Experience recommendations
-        if (resume.getExperienceExtractions() == null || resume.getExperienceExtractions().isEmpty()) {
+        if (!hasExperience) {
             recommendations.add(new ATSRecommendation(
                 "Experience",
                 "No work experience detected",
@@ -0,0 +1,174 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ATSAnalysisRequest;
+import com.resumeanalyzer.dto.AnalysisJobResponse;
+import com.resumeanalyzer.dto.ResumeAnalysisResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One upload waiting for or going through analysis. Status changes and SSE
+ * subscriptions hold the job's lock, so a subscriber either sees the final
+ * status when it subscribes or is notified of it later, never neither. The lock
+ * is a ReentrantLock rather than a monitor because events are sent while it is
+ * held, and blocking I/O inside synchronized would pin the virtual thread's carrier.
+ */
+class AnalysisJob {
+
+    enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final String fileName;
+    private final String contentType;
+    private final String documentType;
+    private final Path spooledFile;
+    private final ATSAnalysisRequest atsRequest;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final long createdNanos = System.nanoTime();
+    private final List<SseEmitter> subscribers = new ArrayList<>();
+    private final Lock lock = new ReentrantLock();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile ResumeAnalysisResponse result;
+
+    AnalysisJob(String id, String fileName, String contentType, String documentType, Path spooledFile,
+                ATSAnalysisRequest atsRequest) {
+        this.id = id;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.documentType = documentType;
+        this.spooledFile = spooledFile;
+        this.atsRequest = atsRequest;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getFileName() {
+        return fileName;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    String getDocumentType() {
+        return documentType;
+    }
+
+    Path getSpooledFile() {
+        return spooledFile;
+    }
+
+    ATSAnalysisRequest getAtsRequest() {
+        return atsRequest;
+    }
+
+    long getCreatedNanos() {
+        return createdNanos;
+    }
+
+    LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    void markRunning() {
+        lock.lock();
+        try {
+            startedAt = LocalDateTime.now();
+            status = Status.RUNNING;
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void markCompleted(ResumeAnalysisResponse analysis) {
+        lock.lock();
+        try {
+            result = analysis;
+            finish(Status.COMPLETED, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void markFailed(String error) {
+        lock.lock();
+        try {
+            finish(Status.FAILED, error);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void subscribe(SseEmitter emitter) {
+        lock.lock();
+        try {
+            send(emitter);
+            if (isFinished()) {
+                emitter.complete();
+                return;
+            }
+            subscribers.add(emitter);
+            emitter.onCompletion(() -> unsubscribe(emitter));
+            emitter.onTimeout(() -> unsubscribe(emitter));
+            emitter.onError(error -> unsubscribe(emitter));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    AnalysisJobResponse toResponse() {
+        return new AnalysisJobResponse(id, status.name(), fileName, createdAt, startedAt, completedAt, message, result);
+    }
+
+    private boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    private void finish(Status finalStatus, String finalMessage) {
+        message = finalMessage;
+        completedAt = LocalDateTime.now();
+        status = finalStatus;
+        publish();
+        for (SseEmitter emitter : List.copyOf(subscribers)) {
+            emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private void publish() {
+        for (SseEmitter emitter : List.copyOf(subscribers)) {
+            send(emitter);
+        }
+    }
+
+    private void send(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(toResponse()));
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the emitter reports it through onError/onCompletion
+            subscribers.remove(emitter);
+        }
+    }
+
+    private void unsubscribe(SseEmitter emitter) {
+        lock.lock();
+        try {
+            subscribers.remove(emitter);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ATSAnalysisRequest;
+import com.resumeanalyzer.dto.AnalysisJobResponse;
+import com.resumeanalyzer.dto.UploadQueueStatsResponse;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface AsyncUploadService {
+
+    /**
+     * Spools the upload to disk and queues it for analysis.
+     *
+     * @throws ServiceBusyException when the queue is full
+     */
+    AnalysisJobResponse submit(MultipartFile file, ATSAnalysisRequest atsRequest) throws Exception;
+
+    AnalysisJobResponse getJob(String jobId) throws Exception;
+
+    /**
+     * Streams a "status" event on every status change of the job and completes once it has finished.
+     */
+    SseEmitter subscribe(String jobId) throws Exception;
+
+    UploadQueueStatsResponse getQueueStats();
+}
@@ -0,0 +1,240 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ATSAnalysisRequest;
+import com.resumeanalyzer.dto.AnalysisJobResponse;
+import com.resumeanalyzer.dto.ResumeAnalysisResponse;
+import com.resumeanalyzer.dto.UploadQueueStatsResponse;
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import com.resumeanalyzer.utils.FileProcessor;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Analyzes uploads off the servlet thread. The upload is spooled to disk and
+ * answered with a job id; a virtual thread per job then waits for a permit of
+ * its document type, so a burst of large PDFs can only occupy the PDF permits
+ * while text and DOCX uploads keep flowing. The number of waiting jobs is
+ * bounded; when it is reached, new uploads are rejected or block for a while,
+ * depending on the rejection policy.
+ */
+@Service
+public class AsyncUploadServiceImpl implements AsyncUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncUploadServiceImpl.class);
+
+    enum RejectionPolicy { REJECT, BLOCK }
+
+    @Autowired
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Autowired
+    private AnalysisMetrics metrics;
+
+    @Value("${analyzer.async.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${analyzer.async.rejection-policy:REJECT}")
+    private RejectionPolicy rejectionPolicy;
+
+    // How long a submission waits for queue space under the BLOCK policy before it is rejected
+    @Value("${analyzer.async.block-timeout:5s}")
+    private Duration blockTimeout;
+
+    // Suggested to rejected clients in the Retry-After header
+    @Value("${analyzer.async.retry-after:5s}")
+    private Duration retryAfter;
+
+    @Value("${analyzer.async.max-concurrent-pdf:2}")
+    private int maxConcurrentPdf;
+
+    @Value("${analyzer.async.max-concurrent-docx:4}")
+    private int maxConcurrentDocx;
+
+    @Value("${analyzer.async.max-concurrent-text:8}")
+    private int maxConcurrentText;
+
+    @Value("${analyzer.async.sse-timeout:5m}")
+    private Duration sseTimeout;
+
+    @Value("${analyzer.async.job-retention:1h}")
+    private Duration jobRetention;
+
+    private final Map<String, AnalysisJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> permitsByType = new LinkedHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private Semaphore queueSlots;
+    private ExecutorService workers;
+    private Path spoolDirectory;
+
+    @PostConstruct
+    public void initialize() throws IOException {
+        queueSlots = new Semaphore(queueCapacity);
+        // Fair permits, so jobs of one type start in submission order
+        permitsByType.put("pdf", new Semaphore(maxConcurrentPdf, true));
+        permitsByType.put("docx", new Semaphore(maxConcurrentDocx, true));
+        permitsByType.put("text", new Semaphore(maxConcurrentText, true));
+        workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upload-", 0).factory());
+        spoolDirectory = Files.createTempDirectory("resume-uploads-");
+        metrics.registerUploadQueue(queued, running);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        FileUtils.deleteQuietly(spoolDirectory.toFile());
+    }
+
+    @Override
+    public AnalysisJobResponse submit(MultipartFile file, ATSAnalysisRequest atsRequest) throws Exception {
+        if (file.isEmpty() || file.getOriginalFilename() == null) {
+            throw new Exception("File is empty");
+        }
+        String documentType = FileProcessor.documentType(file.getOriginalFilename(), file.getContentType());
+        acquireQueueSlot(documentType);
+
+        AnalysisJob job;
+        try {
+            String id = UUID.randomUUID().toString();
+            // Multipart data is only valid during the request
+            Path spooledFile = spoolDirectory.resolve(id + ".bin");
+            file.transferTo(spooledFile);
+            job = new AnalysisJob(id, file.getOriginalFilename(), file.getContentType(), documentType,
+                    spooledFile, atsRequest);
+        } catch (Exception e) {
+            queueSlots.release();
+            throw e;
+        }
+
+        queued.incrementAndGet();
+        jobs.put(job.getId(), job);
+        workers.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    @Override
+    public AnalysisJobResponse getJob(String jobId) throws Exception {
+        return findJob(jobId).toResponse();
+    }
+
+    @Override
+    public SseEmitter subscribe(String jobId) throws Exception {
+        AnalysisJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    @Override
+    public UploadQueueStatsResponse getQueueStats() {
+        Map<String, Integer> maxConcurrent = new LinkedHashMap<>();
+        maxConcurrent.put("pdf", maxConcurrentPdf);
+        maxConcurrent.put("docx", maxConcurrentDocx);
+        maxConcurrent.put("text", maxConcurrentText);
+        return new UploadQueueStatsResponse(queued.get(), running.get(), queueCapacity, rejectionPolicy.name(),
+                rejected.get(), maxConcurrent);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.getCompletedAt() != null && job.getCompletedAt().isBefore(cutoff));
+    }
+
+    private void acquireQueueSlot(String documentType) throws Exception {
+        boolean acquired = rejectionPolicy == RejectionPolicy.BLOCK
+                ? queueSlots.tryAcquire(blockTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                : queueSlots.tryAcquire();
+        if (!acquired) {
+            rejected.incrementAndGet();
+            metrics.recordRejectedUpload(documentType);
+            throw new ServiceBusyException("Upload queue is full (" + queueCapacity + " waiting uploads)",
+                    retryAfter);
+        }
+    }
+
+    private void run(AnalysisJob job) {
+        Semaphore permits = permitsByType.getOrDefault(job.getDocumentType(), permitsByType.get("text"));
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued.decrementAndGet();
+            queueSlots.release();
+            finish(job, null, "Analysis was cancelled");
+            return;
+        }
+
+        queued.decrementAndGet();
+        queueSlots.release();
+        running.incrementAndGet();
+        metrics.recordQueueWait(job.getDocumentType(), System.nanoTime() - job.getCreatedNanos());
+        job.markRunning();
+        try {
+            finish(job, analyzeWhenAdmitted(job), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(job, null, "Analysis was cancelled");
+        } catch (Exception e) {
+            log.warn("Analysis of {} (job {}) failed: {}", job.getFileName(), job.getId(), e.getMessage());
+            finish(job, null, e.getMessage());
+        } finally {
+            running.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    // A busy extraction limiter only delays a queued job; the client was already answered with its job id
+    private ResumeAnalysisResponse analyzeWhenAdmitted(AnalysisJob job) throws Exception {
+        while (true) {
+            try {
+                return resumeAnalysisService.analyzeResume(new FileSystemResource(job.getSpooledFile()),
+                        job.getFileName(), job.getContentType(), job.getAtsRequest());
+            } catch (ServiceBusyException e) {
+                log.debug("Job {} waits {} for extraction: {}", job.getId(), e.getRetryAfter(), e.getMessage());
+                Thread.sleep(e.getRetryAfter());
+            }
+        }
+    }
+
+    private void finish(AnalysisJob job, ResumeAnalysisResponse result, String error) {
+        FileUtils.deleteQuietly(job.getSpooledFile().toFile());
+        if (result != null) {
+            job.markCompleted(result);
+        } else {
+            job.markFailed(error);
+        }
+    }
+
+    private AnalysisJob findJob(String jobId) throws Exception {
+        AnalysisJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new Exception("Upload job not found");
+        }
+        return job;
+    }
+}
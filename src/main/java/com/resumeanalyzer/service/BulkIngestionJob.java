@@ -0,0 +1,101 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.BulkFileResult;
+import com.resumeanalyzer.dto.BulkJobStatusResponse;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Progress of one bulk upload. Pipeline workers update it concurrently while
+ * clients poll it, so every field is either immutable, volatile or atomic.
+ */
+class BulkIngestionJob {
+
+    enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    /**
+     * An uploaded file copied to the job's work directory; rejection is set when it could not be accepted.
+     */
+    record SpooledFile(int index, String fileName, String contentType, Path path, String rejection) {
+    }
+
+    private final String id;
+    private final Path workDirectory;
+    private final List<SpooledFile> files;
+    private final AtomicReferenceArray<BulkFileResult> results;
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime completedAt;
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+
+    BulkIngestionJob(String id, Path workDirectory, List<SpooledFile> files) {
+        this.id = id;
+        this.workDirectory = workDirectory;
+        this.files = List.copyOf(files);
+        this.results = new AtomicReferenceArray<>(files.size());
+        for (SpooledFile file : files) {
+            results.set(file.index(), new BulkFileResult(file.fileName(), "PENDING", null, null));
+        }
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Path getWorkDirectory() {
+        return workDirectory;
+    }
+
+    List<SpooledFile> getFiles() {
+        return files;
+    }
+
+    Status getStatus() {
+        return status;
+    }
+
+    LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    void markRunning() {
+        status = Status.RUNNING;
+    }
+
+    void markFinished(Status finalStatus, String finalMessage) {
+        message = finalMessage;
+        completedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    void recordSuccess(SpooledFile file, Long resumeId, String resultMessage) {
+        results.set(file.index(), new BulkFileResult(file.fileName(), "SUCCEEDED", resumeId, resultMessage));
+        succeeded.incrementAndGet();
+    }
+
+    void recordFailure(SpooledFile file, String error) {
+        results.set(file.index(), new BulkFileResult(file.fileName(), "FAILED", null, error));
+        failed.incrementAndGet();
+    }
+
+    BulkJobStatusResponse toResponse(boolean includeResults) {
+        List<BulkFileResult> fileResults = null;
+        if (includeResults) {
+            fileResults = new ArrayList<>(results.length());
+            for (int i = 0; i < results.length(); i++) {
+                fileResults.add(results.get(i));
+            }
+        }
+        int succeededCount = succeeded.get();
+        int failedCount = failed.get();
+        return new BulkJobStatusResponse(id, status.name(), files.size(), succeededCount + failedCount,
+                succeededCount, failedCount, createdAt, completedAt, message, fileResults);
+    }
+}
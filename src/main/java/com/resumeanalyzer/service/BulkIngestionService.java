@@ -0,0 +1,16 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.BulkJobStatusResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface BulkIngestionService {
+    
+    /**
+     * Spools the uploaded files and ZIP archives to disk and queues them as one job.
+     *
+     * @throws ServiceBusyException when the maximum number of jobs is running or waiting
+     */
+    BulkJobStatusResponse submit(MultipartFile[] files) throws Exception;
+    
+    BulkJobStatusResponse getJobStatus(String jobId, boolean includeResults) throws Exception;
+}
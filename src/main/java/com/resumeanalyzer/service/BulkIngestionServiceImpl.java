@@ -0,0 +1,473 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.BulkJobStatusResponse;
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.NLPProcessor;
+import com.resumeanalyzer.repository.ResumeRepository;
+import com.resumeanalyzer.service.BulkIngestionJob.SpooledFile;
+import com.resumeanalyzer.utils.FileProcessor;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Runs bulk uploads through a three-stage pipeline: parallel text extraction,
+ * parallel NLP analysis and batched persistence. Stages are connected by
+ * bounded queues, so a slow stage holds back the ones feeding it instead of
+ * letting extracted text pile up in memory. Only a bounded number of jobs may
+ * run or wait; further uploads are refused with 429 before anything is spooled,
+ * and the bytes one upload may unpack to disk are capped.
+ */
+@Service
+public class BulkIngestionServiceImpl implements BulkIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkIngestionServiceImpl.class);
+
+    // Marks the end of a queue for the consumers of the next stage
+    private static final ExtractedDocument END_OF_EXTRACTION = new ExtractedDocument(null, null, null);
+    private static final AnalyzedDocument END_OF_ANALYSIS = new AnalyzedDocument(null, null, null);
+
+    @Autowired
+    private FileProcessor fileProcessor;
+
+    @Autowired
+    private NLPProcessor nlpProcessor;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeAnalysisCache analysisCache;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private ResumeFeatureCache featureCache;
+
+    @Autowired
+    private AnalysisMetrics metrics;
+
+    @Value("${analyzer.bulk.extraction-workers:4}")
+    private int extractionWorkers;
+
+    @Value("${analyzer.bulk.analysis-workers:4}")
+    private int analysisWorkers;
+
+    @Value("${analyzer.bulk.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${analyzer.bulk.persist-batch-size:50}")
+    private int persistBatchSize;
+
+    @Value("${analyzer.bulk.max-files:5000}")
+    private int maxFiles;
+
+    @Value("${analyzer.bulk.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    // Uncompressed bytes of all files in one upload, including skipped ZIP entries
+    @Value("${analyzer.bulk.max-upload-size:1GB}")
+    private DataSize maxUploadSize;
+
+    @Value("${analyzer.bulk.max-concurrent-jobs:1}")
+    private int maxConcurrentJobs;
+
+    // Jobs accepted beyond the running ones; further uploads are rejected with 429
+    @Value("${analyzer.bulk.max-queued-jobs:4}")
+    private int maxQueuedJobs;
+
+    // Suggested to rejected clients in the Retry-After header
+    @Value("${analyzer.bulk.retry-after:30s}")
+    private Duration retryAfter;
+
+    @Value("${analyzer.bulk.job-retention:1h}")
+    private Duration jobRetention;
+
+    private final Map<String, BulkIngestionJob> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService jobExecutor;
+    private Semaphore jobSlots;
+
+    @PostConstruct
+    public void initialize() {
+        jobSlots = new Semaphore(maxConcurrentJobs + maxQueuedJobs);
+        jobExecutor = Executors.newFixedThreadPool(maxConcurrentJobs,
+                Thread.ofPlatform().name("bulk-job-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    @Override
+    public BulkJobStatusResponse submit(MultipartFile[] files) throws Exception {
+        if (files == null || files.length == 0) {
+            throw new Exception("No files uploaded");
+        }
+
+        // The slot is taken before spooling, so a full queue costs no disk space
+        if (!jobSlots.tryAcquire()) {
+            throw new ServiceBusyException("Bulk ingestion is busy (" + maxConcurrentJobs + " running and "
+                    + maxQueuedJobs + " waiting jobs)", retryAfter);
+        }
+        // Multipart data is only valid during the request, so copy everything to disk first
+        Path workDirectory = null;
+        try {
+            workDirectory = Files.createTempDirectory("resume-bulk-");
+            List<SpooledFile> spooledFiles = spool(files, workDirectory);
+            if (spooledFiles.isEmpty()) {
+                throw new Exception("No supported resume files (PDF, DOCX, ODT, RTF, HTML, TXT) found in the upload");
+            }
+
+            BulkIngestionJob job = new BulkIngestionJob(UUID.randomUUID().toString(), workDirectory, spooledFiles);
+            jobs.put(job.getId(), job);
+            jobExecutor.execute(() -> runJob(job));
+            return job.toResponse(false);
+        } catch (Exception e) {
+            if (workDirectory != null) {
+                FileUtils.deleteQuietly(workDirectory.toFile());
+            }
+            jobSlots.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public BulkJobStatusResponse getJobStatus(String jobId, boolean includeResults) throws Exception {
+        BulkIngestionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new Exception("Bulk job not found");
+        }
+        return job.toResponse(includeResults);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.getCompletedAt() != null && job.getCompletedAt().isBefore(cutoff));
+    }
+
+    private List<SpooledFile> spool(MultipartFile[] files, Path workDirectory) throws Exception {
+        List<SpooledFile> spooledFiles = new ArrayList<>();
+        AtomicLong remainingBytes = new AtomicLong(maxUploadSize.toBytes());
+        for (MultipartFile file : files) {
+            String fileName = file.getOriginalFilename();
+            if (file.isEmpty() || fileName == null) {
+                continue;
+            }
+            if (isArchive(fileName, file.getContentType())) {
+                try (ZipInputStream zip = new ZipInputStream(file.getInputStream())) {
+                    ZipEntry entry;
+                    while ((entry = zip.getNextEntry()) != null) {
+                        String entryName = baseName(entry.getName());
+                        if (!entry.isDirectory() && !entry.getName().startsWith("__MACOSX/") && !entryName.startsWith(".")) {
+                            spoolEntry(zip, entryName, fileProcessor.guessContentType(entryName), workDirectory,
+                                    spooledFiles, remainingBytes);
+                        }
+                        // Skipped entries are inflated as well, so they count against the upload size too
+                        discard(zip, remainingBytes);
+                    }
+                }
+            } else {
+                try (InputStream inputStream = file.getInputStream()) {
+                    spoolEntry(inputStream, baseName(fileName), file.getContentType(), workDirectory, spooledFiles,
+                            remainingBytes);
+                }
+            }
+        }
+        return spooledFiles;
+    }
+
+    private void spoolEntry(InputStream inputStream, String fileName, String contentType, Path workDirectory,
+                            List<SpooledFile> spooledFiles, AtomicLong remainingBytes) throws Exception {
+        if (!fileProcessor.isSupportedFileType(fileName, contentType)) {
+            return;
+        }
+        if (spooledFiles.size() >= maxFiles) {
+            throw new Exception("Upload contains more than " + maxFiles + " resume files");
+        }
+        int index = spooledFiles.size();
+        Path target = workDirectory.resolve(String.format("%06d.bin", index));
+        if (copyBounded(inputStream, target, maxFileSize.toBytes(), remainingBytes)) {
+            spooledFiles.add(new SpooledFile(index, fileName, contentType, target, null));
+        } else {
+            Files.deleteIfExists(target);
+            spooledFiles.add(new SpooledFile(index, fileName, contentType, null,
+                    "File exceeds the size limit of " + maxFileSize.toMegabytes() + "MB"));
+        }
+    }
+
+    // Copies at most maxBytes but reads the whole input; returns false if the input was larger
+    private boolean copyBounded(InputStream inputStream, Path target, long maxBytes, AtomicLong remainingBytes)
+            throws Exception {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        try (OutputStream outputStream = Files.newOutputStream(target)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                consume(remainingBytes, read);
+                total += read;
+                if (total <= maxBytes) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+        }
+        return total <= maxBytes;
+    }
+
+    private void discard(InputStream inputStream, AtomicLong remainingBytes) throws Exception {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            consume(remainingBytes, read);
+        }
+    }
+
+    private void consume(AtomicLong remainingBytes, int read) throws Exception {
+        if (remainingBytes.addAndGet(-read) < 0) {
+            throw new Exception("Upload unpacks to more than " + maxUploadSize.toMegabytes() + "MB");
+        }
+    }
+
+    private void runJob(BulkIngestionJob job) {
+        job.markRunning();
+        long start = System.nanoTime();
+        try {
+            runPipeline(job);
+            job.markFinished(BulkIngestionJob.Status.COMPLETED, null);
+            log.info("Bulk job {} finished {} files in {} ms", job.getId(), job.getFiles().size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.error("Bulk job {} failed", job.getId(), e);
+            job.markFinished(BulkIngestionJob.Status.FAILED, e.getMessage());
+        } finally {
+            FileUtils.deleteQuietly(job.getWorkDirectory().toFile());
+            jobSlots.release();
+        }
+    }
+
+    private void runPipeline(BulkIngestionJob job) throws Exception {
+        BlockingQueue<ExtractedDocument> extracted = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<AnalyzedDocument> analyzed = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger nextFile = new AtomicInteger();
+        AtomicInteger runningExtractors = new AtomicInteger(extractionWorkers);
+        AtomicInteger runningAnalyzers = new AtomicInteger(analysisWorkers);
+
+        List<Future<?>> stages = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < extractionWorkers; i++) {
+                stages.add(workers.submit(() -> {
+                    try {
+                        extractFiles(job, nextFile, extracted);
+                    } finally {
+                        // The last extractor tells every analyzer that no more documents will come
+                        if (runningExtractors.decrementAndGet() == 0) {
+                            for (int j = 0; j < analysisWorkers; j++) {
+                                extracted.put(END_OF_EXTRACTION);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < analysisWorkers; i++) {
+                stages.add(workers.submit(() -> {
+                    try {
+                        analyzeDocuments(job, extracted, analyzed);
+                    } finally {
+                        if (runningAnalyzers.decrementAndGet() == 0) {
+                            analyzed.put(END_OF_ANALYSIS);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            stages.add(workers.submit(() -> {
+                persistDocuments(job, analyzed);
+                return null;
+            }));
+        }
+
+        for (Future<?> stage : stages) {
+            try {
+                stage.get();
+            } catch (ExecutionException e) {
+                throw new Exception("Bulk pipeline stage failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private void extractFiles(BulkIngestionJob job, AtomicInteger nextFile, BlockingQueue<ExtractedDocument> extracted)
+            throws InterruptedException {
+        List<SpooledFile> files = job.getFiles();
+        int index;
+        while ((index = nextFile.getAndIncrement()) < files.size()) {
+            SpooledFile file = files.get(index);
+            if (file.rejection() != null) {
+                job.recordFailure(file, file.rejection());
+                continue;
+            }
+            try {
+                FileSystemResource source = new FileSystemResource(file.path());
+                String cacheKey = analysisCache.keyFor(source);
+                Long cachedResumeId = analysisCache.get(cacheKey).filter(resumeRepository::existsById).orElse(null);
+                if (cachedResumeId != null) {
+                    job.recordSuccess(file, cachedResumeId, "Already analyzed");
+                    continue;
+                }
+                String text = extractWhenAdmitted(source, file);
+                // Blocks while the analysis stage is behind
+                extracted.put(new ExtractedDocument(file, text, cacheKey));
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                job.recordFailure(file, "Text extraction failed: " + e.getMessage());
+            }
+        }
+    }
+
+    // A busy extraction limiter only delays a bulk job, it does not fail its files
+    private String extractWhenAdmitted(FileSystemResource source, SpooledFile file) throws Exception {
+        while (true) {
+            try {
+                return fileProcessor.extractText(source, file.fileName(), file.contentType());
+            } catch (ServiceBusyException e) {
+                Thread.sleep(e.getRetryAfter());
+            }
+        }
+    }
+
+    private void analyzeDocuments(BulkIngestionJob job, BlockingQueue<ExtractedDocument> extracted,
+                                  BlockingQueue<AnalyzedDocument> analyzed) throws InterruptedException {
+        ExtractedDocument document;
+        while ((document = extracted.take()) != END_OF_EXTRACTION) {
+            SpooledFile file = document.file();
+            try {
+                Resume resume = new Resume();
+                resume.setFileName(file.fileName());
+                resume.setFileType(file.contentType());
+                resume.setOriginalText(document.text());
+                resume.setCreatedAt(LocalDateTime.now());
+                nlpProcessor.processResume(resume);
+                // Blocks while the persistence stage is behind
+                analyzed.put(new AnalyzedDocument(file, resume, document.cacheKey()));
+            } catch (RuntimeException e) {
+                job.recordFailure(file, "Analysis failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void persistDocuments(BulkIngestionJob job, BlockingQueue<AnalyzedDocument> analyzed)
+            throws InterruptedException {
+        List<AnalyzedDocument> batch = new ArrayList<>(persistBatchSize);
+        boolean finished = false;
+        while (!finished) {
+            AnalyzedDocument document = analyzed.take();
+            // Give the analyzers a moment to fill the batch before writing it
+            while (document != END_OF_ANALYSIS) {
+                batch.add(document);
+                if (batch.size() >= persistBatchSize) {
+                    break;
+                }
+                document = analyzed.poll(100, TimeUnit.MILLISECONDS);
+                if (document == null) {
+                    break;
+                }
+            }
+            finished = document == END_OF_ANALYSIS;
+            if (!batch.isEmpty()) {
+                saveBatch(job, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void saveBatch(BulkIngestionJob job, List<AnalyzedDocument> batch) {
+        try {
+            List<Resume> resumes = batch.stream().map(AnalyzedDocument::resume).toList();
+            List<Resume> saved = metrics.timePersist("batch", resumes.size(), () -> resumeRepository.saveAll(resumes));
+            for (int i = 0; i < batch.size(); i++) {
+                recordSaved(job, batch.get(i), saved.get(i));
+            }
+        } catch (RuntimeException batchFailure) {
+            // Retry one by one so a single bad row does not fail the whole batch
+            for (AnalyzedDocument document : batch) {
+                try {
+                    clearGeneratedIds(document.resume());
+                    recordSaved(job, document,
+                            metrics.timePersist("single", 1, () -> resumeRepository.save(document.resume())));
+                } catch (RuntimeException e) {
+                    job.recordFailure(document.file(), "Saving failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    // The failed batch left its generated ids on the entities. Sequence values are not transactional, so those ids
+    // are not reused, just skipped; they are cleared so that the per-row retry persists new entities instead of
+    // merging ones that look detached.
+    private static void clearGeneratedIds(Resume resume) {
+        resume.setId(null);
+        if (resume.getContent() != null) {
+            resume.getContent().setId(null);
+        }
+        if (resume.getFeatures() != null) {
+            resume.getFeatures().setId(null);
+        }
+        if (resume.getSkillExtractions() != null) {
+            resume.getSkillExtractions().forEach(extraction -> extraction.setId(null));
+        }
+        if (resume.getEducationExtractions() != null) {
+            resume.getEducationExtractions().forEach(extraction -> extraction.setId(null));
+        }
+    }
+
+    private void recordSaved(BulkIngestionJob job, AnalyzedDocument document, Resume saved) {
+        analysisCache.put(document.cacheKey(), saved.getId());
+        skillIndex.index(saved);
+        featureCache.get(saved);
+        job.recordSuccess(document.file(), saved.getId(), null);
+    }
+
+    private static boolean isArchive(String fileName, String contentType) {
+        return fileName.toLowerCase(Locale.ROOT).endsWith(".zip")
+                || (contentType != null && contentType.contains("zip"));
+    }
+
+    private static String baseName(String path) {
+        String normalized = path.replace('\\', '/');
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+
+    private record ExtractedDocument(SpooledFile file, String text, String cacheKey) {
+    }
+
+    private record AnalyzedDocument(SpooledFile file, Resume resume, String cacheKey) {
+    }
+}
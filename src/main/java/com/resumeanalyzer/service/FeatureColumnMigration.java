@@ -0,0 +1,63 @@
+package com.resumeanalyzer.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Drops the resume_features.keyword_bits and skill_bits columns of older
+ * versions, which held the ATS masks as single 64-bit values. They are NOT NULL,
+ * so inserts would fail while they exist; the vectors stored in them have an old
+ * version and are rebuilt anyway. Runs on startup, before requests are served.
+ */
+@Component
+public class FeatureColumnMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(FeatureColumnMigration.class);
+
+    private static final String TABLE = "resume_features";
+    private static final List<String> LEGACY_COLUMNS = List.of("keyword_bits", "skill_bits");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Created after the schema update, so the table exists here
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void dropLegacyColumns() {
+        for (String column : LEGACY_COLUMNS) {
+            try {
+                if (hasColumn(column)) {
+                    jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP COLUMN " + column);
+                    log.info("Dropped the legacy column {}.{}", TABLE, column);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not drop the legacy column {}.{}: {}", TABLE, column, e.getMessage());
+            }
+        }
+    }
+
+    private boolean hasColumn(String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // Unquoted identifiers are stored upper case by some databases, e.g. H2
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+                    upperCase ? TABLE.toUpperCase() : TABLE, upperCase ? column.toUpperCase() : column)) {
+                return columns.next();
+            }
+        }));
+    }
+}
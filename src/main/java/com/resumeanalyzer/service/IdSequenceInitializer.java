@@ -0,0 +1,87 @@
+package com.resumeanalyzer.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Moves the pooled id sequences past the ids already in their tables. Databases
+ * created before ids came from sequences hold auto-increment ids, and a freshly
+ * created sequence would hand them out again. Runs on every startup, before
+ * requests are served; sequences that are already ahead are left alone.
+ */
+@Component
+public class IdSequenceInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // allocationSize of every @SequenceGenerator in the model
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> TABLES_BY_SEQUENCE = new LinkedHashMap<>();
+
+    static {
+        TABLES_BY_SEQUENCE.put("resume_seq", "resumes");
+        TABLES_BY_SEQUENCE.put("skill_extraction_seq", "skill_extractions");
+        TABLES_BY_SEQUENCE.put("experience_extraction_seq", "experience_extractions");
+        TABLES_BY_SEQUENCE.put("education_extraction_seq", "education_extractions");
+        TABLES_BY_SEQUENCE.put("resume_content_seq", "resume_contents");
+        TABLES_BY_SEQUENCE.put("resume_features_seq", "resume_features");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Created after the schema update, so every sequence and table exists here
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void initialize() {
+        SequenceSupport sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+        TABLES_BY_SEQUENCE.forEach((sequence, table) -> {
+            try {
+                advance(sequenceSupport, sequence, table);
+            } catch (DataAccessException e) {
+                log.warn("Could not check id sequence {} against {}: {}", sequence, table, e.getMessage());
+            }
+        });
+    }
+
+    private void advance(SequenceSupport sequenceSupport, String sequence, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // The pooled optimizer hands out the ALLOCATION_SIZE ids up to the value it reads
+        long nextValue = maxId + ALLOCATION_SIZE + 1;
+
+        boolean advanced;
+        if (sequenceSupport.supportsSequences()) {
+            // Reading a native sequence uses up one block, which costs nothing but a gap
+            Long current = jdbcTemplate.queryForObject(sequenceSupport.getSequenceNextValString(sequence), Long.class);
+            advanced = current != null && current < nextValue;
+            if (advanced) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + nextValue);
+            }
+        } else {
+            // Databases without sequences, such as MySQL, emulate them with a one-row table
+            advanced = jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?",
+                    nextValue, nextValue) > 0;
+        }
+        if (advanced) {
+            log.info("Moved id sequence {} past the ids in {} to {}", sequence, table, nextValue);
+        }
+    }
+}
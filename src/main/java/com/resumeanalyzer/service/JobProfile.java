@@ -0,0 +1,144 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.nlp.features.AtsVocabulary;
+import com.resumeanalyzer.nlp.features.FeatureVector;
+import com.resumeanalyzer.nlp.features.TermMask;
+import com.resumeanalyzer.nlp.processors.FeatureProcessor;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * A job description compiled once into what ATS scoring needs from it. Instances
+ * are immutable, so one profile can be shared by every resume scored against the
+ * same posting, including concurrently. A profile belongs to the taxonomy
+ * snapshot it was compiled with and can only be compared with feature vectors
+ * of the same version.
+ */
+public final class JobProfile {
+
+    public enum ExperienceBand { ENTRY, MID, SENIOR, UNSPECIFIED }
+
+    private final String id;
+    private final String jobDescription;
+    private final boolean blank;
+    private final SkillTaxonomy taxonomy;
+    private final int featureVersion;
+    private final AtsVocabulary vocabulary;
+    private final TermMask keywordMask;
+    private final TermMask skillMask;
+    private final List<String> keywords;
+    private final List<String> skills;
+    private final ExperienceBand experienceBand;
+
+    private JobProfile(String id, String jobDescription, SkillTaxonomy taxonomy) {
+        String lowerText = jobDescription.toLowerCase();
+        AtsVocabulary vocabulary = taxonomy.getAtsVocabulary();
+        this.id = id;
+        this.jobDescription = jobDescription;
+        this.blank = jobDescription.trim().isEmpty();
+        this.taxonomy = taxonomy;
+        this.featureVersion = FeatureProcessor.versionOf(taxonomy);
+        this.vocabulary = vocabulary;
+        this.keywordMask = vocabulary.keywordMask(lowerText);
+        this.skillMask = vocabulary.skillMask(lowerText);
+        this.keywords = List.copyOf(vocabulary.keywords(keywordMask));
+        this.skills = List.copyOf(vocabulary.skills(skillMask));
+        this.experienceBand = detectExperienceBand(lowerText);
+    }
+
+    public static JobProfile compile(String jobDescription, SkillTaxonomy taxonomy) {
+        return compile(jobDescription, idOf(jobDescription), taxonomy);
+    }
+
+    static JobProfile compile(String jobDescription, String id, SkillTaxonomy taxonomy) {
+        return new JobProfile(id, jobDescription != null ? jobDescription : "", taxonomy);
+    }
+
+    /**
+     * SHA-256 of the job description; equal descriptions always map to the same profile.
+     */
+    public static String idOf(String jobDescription) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((jobDescription != null ? jobDescription : "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getJobDescription() {
+        return jobDescription;
+    }
+
+    public boolean isBlank() {
+        return blank;
+    }
+
+    /**
+     * Taxonomy snapshot the profile was compiled with; feature vectors to compare with it are built against it too.
+     */
+    public SkillTaxonomy getTaxonomy() {
+        return taxonomy;
+    }
+
+    /**
+     * {@link FeatureVector#getVersion() Version} of the feature vectors the masks line up with.
+     */
+    public int getFeatureVersion() {
+        return featureVersion;
+    }
+
+    /**
+     * Vocabulary the masks index into.
+     */
+    public AtsVocabulary getVocabulary() {
+        return vocabulary;
+    }
+
+    /**
+     * Vocabulary keywords in the job description, as a mask over the {@link #getVocabulary() vocabulary}.
+     */
+    public TermMask getKeywordMask() {
+        return keywordMask;
+    }
+
+    /**
+     * Vocabulary skills in the job description, as a mask over the {@link #getVocabulary() vocabulary}.
+     */
+    public TermMask getSkillMask() {
+        return skillMask;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public ExperienceBand getExperienceBand() {
+        return experienceBand;
+    }
+
+    private static ExperienceBand detectExperienceBand(String lowerText) {
+        if (lowerText.contains("entry level") || lowerText.contains("0-2 years")) {
+            return ExperienceBand.ENTRY;
+        } else if (lowerText.contains("mid level") || lowerText.contains("3-5 years")) {
+            return ExperienceBand.MID;
+        } else if (lowerText.contains("senior") || lowerText.contains("5+ years")) {
+            return ExperienceBand.SENIOR;
+        }
+        return ExperienceBand.UNSPECIFIED;
+    }
+}
@@ -0,0 +1,53 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.CacheStatsResponse;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyChangedEvent;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import com.resumeanalyzer.utils.BoundedCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+
+/**
+ * Compiled job profiles keyed by the hash of their job description, so a
+ * posting is parsed once no matter how many resumes are scored against it.
+ */
+@Component
+public class JobProfileCache {
+
+    @Autowired
+    private SkillTaxonomyProvider taxonomies;
+
+    @Value("${analyzer.job-profile-cache.max-entries:256}")
+    private int maxEntries;
+
+    @Value("${analyzer.job-profile-cache.ttl:6h}")
+    private Duration ttl;
+
+    private BoundedCache<String, JobProfile> profiles;
+
+    @PostConstruct
+    public void initialize() {
+        profiles = new BoundedCache<>(maxEntries, ttl);
+    }
+
+    public JobProfile get(String jobDescription) {
+        return profiles.get(JobProfile.idOf(jobDescription),
+                id -> JobProfile.compile(jobDescription, id, taxonomies.current()));
+    }
+
+    // Profiles compiled against the previous vocabulary no longer line up with new feature vectors
+    @EventListener
+    public void onTaxonomyChanged(SkillTaxonomyChangedEvent event) {
+        profiles.invalidateAll();
+    }
+
+    public CacheStatsResponse getStats() {
+        return new CacheStatsResponse(true, profiles.size(), profiles.maxSize(), profiles.hitCount(),
+                profiles.missCount(), profiles.evictionCount(), profiles.hitRatio());
+    }
+}
@@ -0,0 +1,9 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.RankingRequest;
+import com.resumeanalyzer.dto.RankingResponse;
+
+public interface RankingService {
+
+    RankingResponse rankResumes(RankingRequest request) throws Exception;
+}
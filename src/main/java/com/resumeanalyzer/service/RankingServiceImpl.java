@@ -0,0 +1,178 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.RankedResumeDTO;
+import com.resumeanalyzer.dto.RankingRequest;
+import com.resumeanalyzer.dto.RankingResponse;
+import com.resumeanalyzer.dto.ResumeSearchCriteria;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.features.FeatureVector;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import com.resumeanalyzer.repository.ResumeRepository;
+import com.resumeanalyzer.repository.ResumeSummaryView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores every stored resume matching the filters against one job description.
+ * Resume headers are read one keyset page at a time and their feature vectors
+ * scored in parallel on the fork-join pool, so ranking never loads resume text;
+ * only the best K results are kept, in a min-heap, so memory stays flat however
+ * many resumes are scanned.
+ */
+@Service
+public class RankingServiceImpl implements RankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingServiceImpl.class);
+
+    // Weakest first: lower score, then the more recent resume on ties
+    private static final Comparator<RankedResumeDTO> WEAKEST_FIRST = Comparator
+            .comparing(RankedResumeDTO::getAtsScore)
+            .thenComparing(RankedResumeDTO::getResumeId, Comparator.reverseOrder());
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ATSService atsService;
+
+    @Autowired
+    private JobProfileCache jobProfileCache;
+
+    @Autowired
+    private ResumeFeatureCache featureCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${analyzer.ranking.page-size:200}")
+    private int pageSize;
+
+    @Value("${analyzer.ranking.default-top-k:20}")
+    private int defaultTopK;
+
+    @Value("${analyzer.ranking.max-top-k:500}")
+    private int maxTopK;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void initialize() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public RankingResponse rankResumes(RankingRequest request) throws Exception {
+        if (request.getJobDescription() == null || request.getJobDescription().trim().isEmpty()) {
+            throw new Exception("Job description is required");
+        }
+        int topK = Math.max(1, Math.min(request.getTopK() != null ? request.getTopK() : defaultTopK, maxTopK));
+        ResumeSearchCriteria filters = request.getFilters() != null ? request.getFilters() : new ResumeSearchCriteria();
+
+        long start = System.nanoTime();
+        // Compiled once for the whole candidate pool; every vector is read against its taxonomy snapshot
+        JobProfile jobProfile = jobProfileCache.get(request.getJobDescription());
+
+        PriorityQueue<RankedResumeDTO> best = new PriorityQueue<>(topK + 1, WEAKEST_FIRST);
+        long scanned = 0;
+        long lastId = 0;
+        CandidatePage page;
+        do {
+            long afterId = lastId;
+            page = readOnlyTransaction.execute(status -> loadPage(afterId, filters, jobProfile.getTaxonomy()));
+            // Vectors the page rebuilt from text are stored now, so the next ranking reads them instead
+            featureCache.saveRebuilt();
+            if (page == null) {
+                break;
+            }
+            // Advanced by the headers read, not the candidates kept, so resumes without a vector are not re-read
+            lastId = page.lastId();
+            scanned += page.headerCount();
+
+            List<RankedResumeDTO> scored = page.candidates().parallelStream()
+                    .map(candidate -> toRanked(candidate.header(),
+                            atsService.calculateATSScore(candidate.features(), jobProfile)))
+                    .toList();
+            for (RankedResumeDTO candidate : scored) {
+                best.offer(candidate);
+                if (best.size() > topK) {
+                    best.poll();
+                }
+            }
+        } while (page.headerCount() == pageSize);
+
+        List<RankedResumeDTO> results = new ArrayList<>(best);
+        results.sort(WEAKEST_FIRST.reversed());
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Ranked {} resumes against job profile {} in {} ms", scanned, jobProfile.getId(), elapsedMillis);
+        return new RankingResponse(jobProfile.getId(), scanned, elapsedMillis, results);
+    }
+
+    private CandidatePage loadPage(long afterId, ResumeSearchCriteria filters, SkillTaxonomy taxonomy) {
+        List<ResumeSummaryView> headers = resumeRepository.findSummariesAfter(afterId, filters.getSeniority(),
+                filters.getMinExperienceYears(), filters.getMaxExperienceYears(),
+                filters.getCreatedFrom(), filters.getCreatedTo(), Limit.of(pageSize));
+        if (headers.isEmpty()) {
+            return new CandidatePage(List.of(), 0, afterId);
+        }
+
+        Map<Long, FeatureVector> features = new HashMap<>();
+        List<Long> uncached = new ArrayList<>();
+        for (ResumeSummaryView header : headers) {
+            featureCache.find(header.getId(), taxonomy).ifPresentOrElse(
+                    vector -> features.put(header.getId(), vector), () -> uncached.add(header.getId()));
+        }
+
+        // Stored vectors of the rest are batch fetched; resumes without a current one have it
+        // rebuilt from their text here, because the parallel scorers must not touch the session
+        if (!uncached.isEmpty()) {
+            for (Resume resume : resumeRepository.findAllById(uncached)) {
+                features.put(resume.getId(), featureCache.load(resume, taxonomy));
+            }
+
+            // Detach the page so a request-scoped persistence context does not grow page after page
+            entityManager.clear();
+        }
+
+        List<Candidate> candidates = new ArrayList<>(headers.size());
+        for (ResumeSummaryView header : headers) {
+            FeatureVector vector = features.get(header.getId());
+            if (vector != null) {
+                candidates.add(new Candidate(header, vector));
+            }
+        }
+        return new CandidatePage(candidates, headers.size(), headers.get(headers.size() - 1).getId());
+    }
+
+    private RankedResumeDTO toRanked(ResumeSummaryView header, Double atsScore) {
+        return new RankedResumeDTO(header.getId(), header.getFileName(), header.getFullName(),
+                header.getSeniority(), header.getTotalExperienceYears(), atsScore);
+    }
+
+    private record Candidate(ResumeSummaryView header, FeatureVector features) {
+    }
+
+    private record CandidatePage(List<Candidate> candidates, int headerCount, long lastId) {
+    }
+}
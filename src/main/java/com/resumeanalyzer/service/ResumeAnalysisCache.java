@@ -0,0 +1,114 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.CacheStatsResponse;
+import com.resumeanalyzer.nlp.processors.SkillsProcessor;
+import com.resumeanalyzer.utils.BoundedCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Maps the SHA-256 of an uploaded document to the id of the resume that was
+ * analyzed from it, so re-uploads of the same bytes skip extraction, NLP and
+ * the database insert. The analyzer version and the skill dictionary
+ * fingerprint are part of every key, so a change to either never reuses stale results.
+ */
+@Component
+public class ResumeAnalysisCache {
+
+    @Autowired
+    private SkillsProcessor skillsProcessor;
+
+    @Value("${analyzer.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analyzer.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${analyzer.cache.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${analyzer.cache.version:1}")
+    private String analyzerVersion;
+
+    private BoundedCache<String, Long> entries;
+
+    @PostConstruct
+    public void initialize() {
+        entries = new BoundedCache<>(maxEntries, ttl);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hashes the document content together with the analyzer version. Returns null when caching is disabled.
+     */
+    public String keyFor(InputStreamSource content) throws IOException {
+        if (!enabled) {
+            return null;
+        }
+        MessageDigest digest = newDigest();
+        digest.update((analyzerVersion + ":" + skillsProcessor.getDictionaryFingerprint() + ":")
+                .getBytes(StandardCharsets.UTF_8));
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = content.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public Optional<Long> get(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.getIfPresent(key));
+    }
+
+    public void put(String key, Long resumeId) {
+        if (key != null && resumeId != null) {
+            entries.put(key, resumeId);
+        }
+    }
+
+    public void invalidate(String key) {
+        if (key != null) {
+            entries.invalidate(key);
+        }
+    }
+
+    /**
+     * Drops every cached analysis, e.g. after the skill dictionaries were changed.
+     */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    public CacheStatsResponse getStats() {
+        return new CacheStatsResponse(enabled, entries.size(), entries.maxSize(), entries.hitCount(),
+                entries.missCount(), entries.evictionCount(), entries.hitRatio());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -2,9 +2,15 @@ package com.resumeanalyzer.service;
 
 import com.resumeanalyzer.dto.ATSAnalysisRequest;
 import com.resumeanalyzer.dto.ATSAnalysisResponse;
+import com.resumeanalyzer.dto.CacheStatsResponse;
 import com.resumeanalyzer.dto.ResumeAnalysisResponse;
+import com.resumeanalyzer.dto.ResumePageResponse;
+import com.resumeanalyzer.dto.ResumeSearchCriteria;
+import com.resumeanalyzer.dto.SkillSearchResponse;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ResumeAnalysisService {
     
@@ -12,13 +18,33 @@ public interface ResumeAnalysisService {
     
     ResumeAnalysisResponse analyzeResume(MultipartFile file, ATSAnalysisRequest atsRequest) throws Exception;
     
+    /**
+     * Analyzes a document from any re-readable source, e.g. an upload spooled to disk.
+     */
+    ResumeAnalysisResponse analyzeResume(InputStreamSource source, String fileName, String contentType,
+                                         ATSAnalysisRequest atsRequest) throws Exception;
+    
     ResumeAnalysisResponse getResumeAnalysis(Long id) throws Exception;
     
-    List<ResumeAnalysisResponse> getAllResumes();
+    ResumePageResponse listResumes(ResumeSearchCriteria criteria, Long afterId, int limit);
+    
+    /**
+     * Lazily pages through every matching resume, one keyset query per page.
+     */
+    Stream<ResumeAnalysisResponse> streamResumes(ResumeSearchCriteria criteria);
+    
+    /**
+     * Answers a boolean skill query from the in-memory skill index; returns at most {@code limit} ids.
+     */
+    SkillSearchResponse searchBySkills(List<String> all, List<String> any, List<String> none, int limit);
     
     Double calculateSkillMatch(Long resumeId, List<String> requiredSkills) throws Exception;
     
     ATSAnalysisResponse performATSAnalysis(Long resumeId, ATSAnalysisRequest request) throws Exception;
     
     void deleteResume(Long id) throws Exception;
+    
+    CacheStatsResponse getAnalysisCacheStats();
+    
+    void clearAnalysisCache();
 }
@@ -2,23 +2,45 @@ package com.resumeanalyzer.service;
 
 import com.resumeanalyzer.dto.ATSAnalysisRequest;
 import com.resumeanalyzer.dto.ATSAnalysisResponse;
+import com.resumeanalyzer.dto.CacheStatsResponse;
 import com.resumeanalyzer.dto.ResumeAnalysisResponse;
 import com.resumeanalyzer.dto.PersonalInfoDTO;
+import com.resumeanalyzer.dto.ResumePageResponse;
+import com.resumeanalyzer.dto.ResumeSearchCriteria;
+import com.resumeanalyzer.dto.SkillSearchResponse;
+import com.resumeanalyzer.metrics.AnalysisMetrics;
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.features.FeatureVector;
 import com.resumeanalyzer.repository.ResumeRepository;
+import com.resumeanalyzer.repository.ResumeSummaryView;
 import com.resumeanalyzer.nlp.NLPProcessor;
 import com.resumeanalyzer.utils.FileProcessor;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
     @Autowired
     private ResumeRepository resumeRepository;
 
@@ -31,6 +53,29 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
     @Autowired
     private ATSService atsService;
 
+    @Autowired
+    private ResumeAnalysisCache analysisCache;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private ResumeFeatureCache featureCache;
+
+    @Autowired
+    private AnalysisMetrics metrics;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void initialize() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
     @Override
     public ResumeAnalysisResponse analyzeResume(MultipartFile file) throws Exception {
         return analyzeResume(file, null);
@@ -38,12 +83,35 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
 
     @Override
     public ResumeAnalysisResponse analyzeResume(MultipartFile file, ATSAnalysisRequest atsRequest) throws Exception {
-        String extractedText = fileProcessor.extractText(file);
+        if (file.isEmpty()) {
+            throw new Exception("File is empty");
+        }
+        return analyzeResume(file, file.getOriginalFilename(), file.getContentType(), atsRequest);
+    }
+
+    @Override
+    public ResumeAnalysisResponse analyzeResume(InputStreamSource source, String fileName, String contentType,
+                                                ATSAnalysisRequest atsRequest) throws Exception {
+        // Re-uploads of the same bytes reuse the stored analysis. Async jobs run without the request's
+        // session, so the stored resume and its lazy associations are read in a transaction.
+        String cacheKey = analysisCache.keyFor(source);
+        Long cachedId = analysisCache.get(cacheKey).orElse(null);
+        if (cachedId != null) {
+            ResumeAnalysisResponse cached = readOnlyTransaction.execute(status ->
+                    resumeRepository.findById(cachedId).map(resume -> respond(resume, atsRequest)).orElse(null));
+            if (cached != null) {
+                return cached;
+            }
+            // The cached resume was deleted since
+            analysisCache.invalidate(cacheKey);
+        }
+        
+        String extractedText = fileProcessor.extractText(source, fileName, contentType);
         
         // Create Resume entity
         Resume resume = new Resume();
-        resume.setFileName(file.getOriginalFilename());
-        resume.setFileType(file.getContentType());
+        resume.setFileName(fileName);
+        resume.setFileType(contentType);
         resume.setOriginalText(extractedText);
         resume.setCreatedAt(LocalDateTime.now());
         
@@ -51,8 +119,16 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
         nlpProcessor.processResume(resume);
         
         // Save to database
-        resume = resumeRepository.save(resume);
+        Resume analyzed = resume;
+        resume = metrics.timePersist("single", 1, () -> resumeRepository.save(analyzed));
+        analysisCache.put(cacheKey, resume.getId());
+        skillIndex.index(resume);
+        featureCache.get(resume);
         
+        return respond(resume, atsRequest);
+    }
+
+    private ResumeAnalysisResponse respond(Resume resume, ATSAnalysisRequest atsRequest) {
         // Convert to response DTO
         ResumeAnalysisResponse response = convertToResponse(resume);
         
@@ -73,18 +149,66 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
     }
 
     @Override
-    public List<ResumeAnalysisResponse> getAllResumes() {
-        return resumeRepository.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public ResumePageResponse listResumes(ResumeSearchCriteria criteria, Long afterId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        // One extra row tells whether another page follows
+        List<ResumeSummaryView> rows = findSummariesAfter(criteria, afterId != null ? afterId : 0L, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ResumeSummaryView> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        
+        return new ResumePageResponse(
+                page.stream().map(this::convertToResponse).collect(Collectors.toList()), nextCursor, hasMore);
+    }
+
+    @Override
+    public Stream<ResumeAnalysisResponse> streamResumes(ResumeSearchCriteria criteria) {
+        Iterator<ResumeSummaryView> rows = new Iterator<>() {
+            private List<ResumeSummaryView> page = List.of();
+            private int position;
+            private long lastId;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (position < page.size()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                page = findSummariesAfter(criteria, lastId, EXPORT_PAGE_SIZE);
+                position = 0;
+                exhausted = page.size() < EXPORT_PAGE_SIZE;
+                return !page.isEmpty();
+            }
+
+            @Override
+            public ResumeSummaryView next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ResumeSummaryView row = page.get(position++);
+                lastId = row.getId();
+                return row;
+            }
+        };
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .map(this::convertToResponse);
     }
 
     @Override
     public Double calculateSkillMatch(Long resumeId, List<String> requiredSkills) throws Exception {
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new Exception("Resume not found"));
+        FeatureVector features = featureCache.find(resumeId).orElse(null);
+        if (features == null) {
+            Resume resume = resumeRepository.findById(resumeId)
+                    .orElseThrow(() -> new Exception("Resume not found"));
+            features = featureCache.load(resume);
+        }
         
-        return nlpProcessor.calculateSkillMatch(resume, requiredSkills);
+        return nlpProcessor.calculateSkillMatch(features, requiredSkills);
     }
 
     @Override
@@ -101,6 +225,56 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
             throw new Exception("Resume not found");
         }
         resumeRepository.deleteById(id);
+        skillIndex.remove(id);
+        featureCache.invalidate(id);
+    }
+
+    @Override
+    public SkillSearchResponse searchBySkills(List<String> all, List<String> any, List<String> none, int limit) {
+        long[] matches = skillIndex.search(all, any, none);
+        List<Long> resumeIds = new ArrayList<>(Math.min(matches.length, limit));
+        for (int i = 0; i < matches.length && i < limit; i++) {
+            resumeIds.add(matches[i]);
+        }
+        return new SkillSearchResponse(matches.length, resumeIds, skillIndex.size());
+    }
+
+    @Override
+    public CacheStatsResponse getAnalysisCacheStats() {
+        return analysisCache.getStats();
+    }
+
+    @Override
+    public void clearAnalysisCache() {
+        analysisCache.invalidateAll();
+    }
+
+    private List<ResumeSummaryView> findSummariesAfter(ResumeSearchCriteria criteria, long afterId, int limit) {
+        return resumeRepository.findSummariesAfter(afterId, criteria.getSeniority(),
+                criteria.getMinExperienceYears(), criteria.getMaxExperienceYears(),
+                criteria.getCreatedFrom(), criteria.getCreatedTo(), Limit.of(limit));
+    }
+
+    private ResumeAnalysisResponse convertToResponse(ResumeSummaryView view) {
+        ResumeAnalysisResponse response = new ResumeAnalysisResponse();
+        response.setId(view.getId());
+        response.setFileName(view.getFileName());
+        response.setSummary(view.getSummary());
+        response.setTotalExperienceYears(view.getTotalExperienceYears());
+        response.setSeniority(view.getSeniority());
+        response.setSkillMatchScore(view.getSkillMatchScore());
+        response.setCreatedAt(view.getCreatedAt());
+        
+        PersonalInfoDTO personalInfo = new PersonalInfoDTO();
+        personalInfo.setFullName(view.getFullName());
+        personalInfo.setEmail(view.getEmail());
+        personalInfo.setPhoneNumber(view.getPhoneNumber());
+        personalInfo.setAddress(view.getAddress());
+        personalInfo.setLinkedinUrl(view.getLinkedinUrl());
+        personalInfo.setGithubUrl(view.getGithubUrl());
+        response.setPersonalInfo(personalInfo);
+        
+        return response;
     }
 
     private ResumeAnalysisResponse convertToResponse(Resume resume) {
@@ -111,6 +285,7 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
         response.setTotalExperienceYears(resume.getTotalExperienceYears());
         response.setSeniority(resume.getSeniority());
         response.setSkillMatchScore(resume.getSkillMatchScore());
+        response.setCreatedAt(resume.getCreatedAt());
         
         PersonalInfoDTO personalInfo = new PersonalInfoDTO();
         personalInfo.setFullName(resume.getFullName());
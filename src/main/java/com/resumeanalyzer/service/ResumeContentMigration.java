@@ -0,0 +1,79 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.repository.ResumeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves text stored by older versions in the resumes.original_text and
+ * processed_text columns into compressed resume_contents rows. Opt-in via
+ * analyzer.content.migrate-legacy-text; runs in small transactions after startup.
+ */
+@Component
+public class ResumeContentMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeContentMigration.class);
+
+    private static final int BATCH_SIZE = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Value("${analyzer.content.migrate-legacy-text:false}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyText() {
+        if (!enabled) {
+            return;
+        }
+        int migrated = 0;
+        try {
+            Integer batch;
+            do {
+                batch = transactionTemplate.execute(status -> migrateBatch());
+                migrated += batch != null ? batch : 0;
+            } while (batch != null && batch > 0);
+        } catch (DataAccessException e) {
+            // Databases created by this version have no legacy columns at all
+            log.warn("Legacy resume text migration stopped: {}", e.getMessage());
+        }
+        log.info("Moved the text of {} resumes to resume_contents", migrated);
+    }
+
+    private int migrateBatch() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, original_text, processed_text FROM resumes " +
+                "WHERE content_id IS NULL AND (original_text IS NOT NULL OR processed_text IS NOT NULL) " +
+                "ORDER BY id LIMIT " + BATCH_SIZE);
+
+        for (Map<String, Object> row : rows) {
+            Long id = ((Number) row.get("id")).longValue();
+            Resume resume = resumeRepository.findById(id).orElse(null);
+            if (resume != null) {
+                resume.setOriginalText((String) row.get("original_text"));
+                resume.setProcessedText((String) row.get("processed_text"));
+            }
+            jdbcTemplate.update("UPDATE resumes SET original_text = NULL, processed_text = NULL WHERE id = ?", id);
+        }
+        return rows.size();
+    }
+}
@@ -0,0 +1,205 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.CacheStatsResponse;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.model.ResumeFeatures;
+import com.resumeanalyzer.nlp.features.FeatureVector;
+import com.resumeanalyzer.nlp.processors.FeatureProcessor;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyChangedEvent;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import com.resumeanalyzer.repository.ResumeRepository;
+import com.resumeanalyzer.utils.BoundedCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feature vectors of stored resumes by resume id, so scoring a known resume
+ * reads neither its text nor, once cached, its resume_features row. Vectors of
+ * another version than the current one are ignored and rebuilt; resumes stored
+ * without a vector get one built from their text on first use.
+ *
+ * Callers comparing vectors with a {@link JobProfile} ask for the profile's
+ * taxonomy snapshot, so a reload in the middle of a request never mixes masks
+ * of two vocabularies; only vectors of the current taxonomy are cached.
+ *
+ * Vectors rebuilt from text are written back to resume_features, after each
+ * ranking page and periodically for other callers, so a taxonomy edit costs one
+ * pass over the text of each resume rather than one per scoring request.
+ */
+@Component
+public class ResumeFeatureCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeFeatureCache.class);
+
+    private static final int WRITE_BACK_BATCH_SIZE = 200;
+
+    @Autowired
+    private FeatureProcessor featureProcessor;
+
+    @Autowired
+    private SkillTaxonomyProvider taxonomies;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // A vector takes about 4 bytes per distinct word n-gram, typically 5 to 20 KB
+    @Value("${analyzer.feature-cache.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${analyzer.feature-cache.ttl:24h}")
+    private Duration ttl;
+
+    private BoundedCache<Long, FeatureVector> vectors;
+
+    // Current vectors rebuilt from text and not stored yet, by resume id
+    private final Map<Long, FeatureVector> unsaved = new ConcurrentHashMap<>();
+    private final Lock writeBack = new ReentrantLock();
+
+    @PostConstruct
+    public void initialize() {
+        vectors = new BoundedCache<>(maxEntries, ttl);
+    }
+
+    public Optional<FeatureVector> find(Long resumeId) {
+        return find(resumeId, taxonomies.current());
+    }
+
+    /**
+     * Cached vector of a resume built against the taxonomy snapshot.
+     */
+    public Optional<FeatureVector> find(Long resumeId, SkillTaxonomy taxonomy) {
+        FeatureVector vector = resumeId != null ? vectors.getIfPresent(resumeId) : null;
+        return isOf(vector, taxonomy) ? Optional.of(vector) : Optional.empty();
+    }
+
+    /**
+     * Vector of a resume from the cache, its stored features or, failing both, its text.
+     * Needs an open session if the resume is managed and its features are not loaded yet.
+     */
+    public FeatureVector get(Resume resume) {
+        return get(resume, taxonomies.current());
+    }
+
+    public FeatureVector get(Resume resume, SkillTaxonomy taxonomy) {
+        return find(resume.getId(), taxonomy).orElseGet(() -> load(resume, taxonomy));
+    }
+
+    /**
+     * Like {@link #get} for callers that already missed the cache: reads the stored features
+     * or the text and caches the result. Vectors rebuilt from the text are stored by the next
+     * {@link #saveRebuilt()}.
+     */
+    public FeatureVector load(Resume resume) {
+        return load(resume, taxonomies.current());
+    }
+
+    public FeatureVector load(Resume resume, SkillTaxonomy taxonomy) {
+        ResumeFeatures stored = resume.getFeatures();
+        FeatureVector vector = stored != null ? stored.toVector() : null;
+        boolean rebuilt = !isOf(vector, taxonomy);
+        if (rebuilt) {
+            vector = featureProcessor.buildVector(resume, taxonomy);
+        }
+        // A request still working on the previous snapshot must not replace a current vector
+        if (resume.getId() != null && featureProcessor.isCurrent(vector)) {
+            vectors.put(resume.getId(), vector);
+            if (rebuilt) {
+                unsaved.put(resume.getId(), vector);
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Stores the vectors rebuilt from text since the last call in resume_features, a batch per
+     * transaction. Must not be called inside a read-only transaction.
+     */
+    @Scheduled(fixedDelayString = "${analyzer.feature-cache.write-back-interval:10s}")
+    public void saveRebuilt() {
+        if (unsaved.isEmpty()) {
+            return;
+        }
+        writeBack.lock();
+        try {
+            List<Long> resumeIds = new ArrayList<>(unsaved.keySet());
+            for (int from = 0; from < resumeIds.size(); from += WRITE_BACK_BATCH_SIZE) {
+                List<Long> batch = resumeIds.subList(from, Math.min(from + WRITE_BACK_BATCH_SIZE, resumeIds.size()));
+                Map<Long, FeatureVector> saved = transactionTemplate.execute(status -> saveBatch(batch));
+                // A vector rebuilt again meanwhile stays queued
+                saved.forEach(unsaved::remove);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not store rebuilt feature vectors, retrying later: {}", e.getMessage());
+        } finally {
+            writeBack.unlock();
+        }
+    }
+
+    private Map<Long, FeatureVector> saveBatch(List<Long> resumeIds) {
+        Map<Long, FeatureVector> saved = new HashMap<>();
+        for (Long resumeId : resumeIds) {
+            saved.put(resumeId, unsaved.get(resumeId));
+        }
+        // Deleted resumes are simply not found; their vectors are dropped with the rest
+        for (Resume resume : resumeRepository.findAllById(resumeIds)) {
+            FeatureVector vector = saved.get(resume.getId());
+            if (vector == null || !featureProcessor.isCurrent(vector)) {
+                continue;
+            }
+            if (resume.getFeatures() != null) {
+                resume.getFeatures().update(vector);
+            } else {
+                resume.setFeatures(ResumeFeatures.of(vector));
+            }
+        }
+        return saved;
+    }
+
+    private static boolean isOf(FeatureVector vector, SkillTaxonomy taxonomy) {
+        return vector != null && vector.getVersion() == FeatureProcessor.versionOf(taxonomy);
+    }
+
+    public void invalidate(Long resumeId) {
+        if (resumeId != null) {
+            vectors.invalidate(resumeId);
+        }
+    }
+
+    public void invalidateAll() {
+        vectors.invalidateAll();
+        unsaved.clear();
+    }
+
+    // Vectors of the previous taxonomy would only be skipped as stale; free them at once
+    @EventListener
+    public void onTaxonomyChanged(SkillTaxonomyChangedEvent event) {
+        invalidateAll();
+    }
+
+    public CacheStatsResponse getStats() {
+        return new CacheStatsResponse(true, vectors.size(), vectors.maxSize(), vectors.hitCount(),
+                vectors.missCount(), vectors.evictionCount(), vectors.hitRatio());
+    }
+}
@@ -0,0 +1,22 @@
+package com.resumeanalyzer.service;
+
+import java.time.Duration;
+
+/**
+ * Thrown when work is refused because the service is at capacity; the client may retry after the given delay.
+ */
+public class ServiceBusyException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public ServiceBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,424 @@
+package com.resumeanalyzer.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.model.SkillExtraction;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyChangedEvent;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomyProvider;
+import com.resumeanalyzer.repository.ResumeRepository;
+import com.resumeanalyzer.repository.ResumeSkillsView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from canonical skill name (see SkillTaxonomy) to the sorted ids of the
+ * resumes that mention it. Kept up to date on upload and delete, rebuilt from
+ * the stored skillsJson at startup and whenever the taxonomy changes, and answers boolean skill queries without
+ * touching JPA.
+ */
+@Component
+public class SkillIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillIndex.class);
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private static final PostingList NO_RESUMES = new PostingList();
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SkillTaxonomyProvider taxonomies;
+
+    @Value("${analyzer.skill-index.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Serializes rebuilds, e.g. the one at startup and one after a taxonomy reload
+    private final Lock rebuildLock = new ReentrantLock();
+    private Postings postings = new Postings();
+    // Raw skills of resumes indexed (null when removed) while a rebuild reads the database
+    private Map<Long, Collection<String>> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    // Postings are keyed by canonical names; re-aliased skills must be filed under their new canonical name
+    @EventListener
+    public void onTaxonomyChanged(SkillTaxonomyChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Reloads the index from the skillsJson column, one keyset page at a time. The new postings
+     * are built aside while the current ones keep answering queries; uploads and deletes made
+     * meanwhile are replayed onto them before they are swapped in.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            setChangedDuringRebuild(new HashMap<>());
+            Postings rebuilt = new Postings();
+            try {
+                long lastId = 0;
+                List<ResumeSkillsView> page;
+                do {
+                    page = resumeRepository.findSkillsAfter(lastId, Limit.of(REBUILD_PAGE_SIZE));
+                    for (ResumeSkillsView resume : page) {
+                        rebuilt.put(resume.getId(), normalize(parseSkillNames(resume.getSkillsJson())));
+                        lastId = resume.getId();
+                    }
+                } while (page.size() == REBUILD_PAGE_SIZE);
+            } catch (RuntimeException e) {
+                setChangedDuringRebuild(null);
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild.forEach((resumeId, skills) -> {
+                    if (skills != null) {
+                        rebuilt.put(resumeId, normalize(skills));
+                    } else {
+                        rebuilt.remove(resumeId);
+                    }
+                });
+                changedDuringRebuild = null;
+                postings = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Skill index rebuilt with {} resumes and {} skills in {} ms", size(), skillCount(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void index(Resume resume) {
+        List<String> skills = new ArrayList<>();
+        if (resume.getSkillExtractions() != null) {
+            for (SkillExtraction skill : resume.getSkillExtractions()) {
+                skills.add(skill.getSkillName());
+            }
+        }
+        index(resume.getId(), skills);
+    }
+
+    /**
+     * Replaces the indexed skills of one resume.
+     */
+    public void index(Long resumeId, Collection<String> skills) {
+        if (resumeId == null) {
+            return;
+        }
+        String[] normalized = normalize(skills);
+
+        lock.writeLock().lock();
+        try {
+            postings.put(resumeId, normalized);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(resumeId, new ArrayList<>(skills));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long resumeId) {
+        if (resumeId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            postings.remove(resumeId);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(resumeId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the resumes having every skill in {@code all}, at least one in {@code any}
+     * (when given) and none in {@code none}, in ascending order.
+     */
+    public long[] search(Collection<String> all, Collection<String> any, Collection<String> none) {
+        lock.readLock().lock();
+        try {
+            // Lists of the index itself are only read; each operation allocates one result
+            PostingList result = null;
+
+            // Intersect the shortest lists first so the candidate set shrinks quickly
+            List<PostingList> required = new ArrayList<>();
+            for (String skill : nullToEmpty(all)) {
+                required.add(postingsOf(skill));
+            }
+            required.sort(Comparator.comparingInt(PostingList::size));
+            for (PostingList list : required) {
+                result = result == null ? list : PostingList.intersect(result, list);
+            }
+
+            if (!nullToEmpty(any).isEmpty()) {
+                PostingList union = unionOf(any);
+                result = result == null ? union : PostingList.intersect(result, union);
+            }
+
+            if (result == null) {
+                result = postings.allResumes;
+            }
+            if (!nullToEmpty(none).isEmpty()) {
+                result = PostingList.subtract(result, unionOf(none));
+            }
+            return result.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postings.allResumes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int skillCount() {
+        lock.readLock().lock();
+        try {
+            return postings.bySkill.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void setChangedDuringRebuild(Map<Long, Collection<String>> changes) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private PostingList postingsOf(String skill) {
+        return postings.bySkill.getOrDefault(normalize(skill), NO_RESUMES);
+    }
+
+    private PostingList unionOf(Collection<String> skills) {
+        PostingList union = NO_RESUMES;
+        for (String skill : skills) {
+            union = PostingList.union(union, postingsOf(skill));
+        }
+        return union;
+    }
+
+    private List<String> parseSkillNames(String skillsJson) {
+        List<String> names = new ArrayList<>();
+        if (skillsJson == null || skillsJson.isEmpty()) {
+            return names;
+        }
+        try {
+            JsonNode skills = objectMapper.readTree(skillsJson);
+            // Some drivers (e.g. H2) hand back a JSON column as a JSON string holding the document
+            if (skills.isTextual()) {
+                skills = objectMapper.readTree(skills.asText());
+            }
+            for (JsonNode skill : skills) {
+                JsonNode name = skill.get("name");
+                if (name != null) {
+                    names.add(name.asText());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Skipping unreadable skillsJson while rebuilding the skill index: {}", e.getMessage());
+        }
+        return names;
+    }
+
+    private static Collection<String> nullToEmpty(Collection<String> skills) {
+        return skills != null ? skills : List.of();
+    }
+
+    private String[] normalize(Collection<String> skills) {
+        return skills.stream()
+                .filter(Objects::nonNull)
+                .map(this::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private String normalize(String skill) {
+        return taxonomies.current().canonical(skill);
+    }
+
+    /**
+     * One generation of the index: the postings per skill, the skills per resume (to remove a
+     * resume from its postings) and the ids of all indexed resumes. Guarded by the index's lock.
+     */
+    private static final class Postings {
+
+        private final Map<String, PostingList> bySkill = new HashMap<>();
+        private final Map<Long, String[]> skillsByResume = new HashMap<>();
+        private final PostingList allResumes = new PostingList();
+
+        void put(long resumeId, String[] skills) {
+            remove(resumeId);
+            for (String skill : skills) {
+                bySkill.computeIfAbsent(skill, key -> new PostingList()).add(resumeId);
+            }
+            skillsByResume.put(resumeId, skills);
+            allResumes.add(resumeId);
+        }
+
+        void remove(long resumeId) {
+            String[] previous = skillsByResume.remove(resumeId);
+            if (previous != null) {
+                for (String skill : previous) {
+                    PostingList list = bySkill.get(skill);
+                    if (list != null && list.remove(resumeId) && list.size() == 0) {
+                        bySkill.remove(skill);
+                    }
+                }
+            }
+            allResumes.remove(resumeId);
+        }
+    }
+
+    /**
+     * Growable sorted array of distinct ids. Ids mostly arrive in increasing order,
+     * so adding is usually an append. The set operations read their operands in
+     * place and return a new list sized to fit, without trimming it.
+     */
+    static final class PostingList {
+
+        private long[] ids;
+        private int size;
+
+        PostingList() {
+            this(new long[4], 0);
+        }
+
+        private PostingList(long[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        boolean add(long id) {
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return true;
+            }
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return false;
+            }
+            int insertAt = -position - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+            return true;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(4, size * 2));
+            }
+        }
+
+        static PostingList intersect(PostingList left, PostingList right) {
+            long[] result = new long[Math.min(left.size, right.size)];
+            int i = 0, j = 0, count = 0;
+            while (i < left.size && j < right.size) {
+                if (left.ids[i] < right.ids[j]) {
+                    i++;
+                } else if (left.ids[i] > right.ids[j]) {
+                    j++;
+                } else {
+                    result[count++] = left.ids[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new PostingList(result, count);
+        }
+
+        static PostingList union(PostingList left, PostingList right) {
+            long[] result = new long[left.size + right.size];
+            int i = 0, j = 0, count = 0;
+            while (i < left.size || j < right.size) {
+                if (j == right.size || (i < left.size && left.ids[i] < right.ids[j])) {
+                    result[count++] = left.ids[i++];
+                } else if (i == left.size || right.ids[j] < left.ids[i]) {
+                    result[count++] = right.ids[j++];
+                } else {
+                    result[count++] = left.ids[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new PostingList(result, count);
+        }
+
+        static PostingList subtract(PostingList left, PostingList right) {
+            long[] result = new long[left.size];
+            int i = 0, j = 0, count = 0;
+            while (i < left.size) {
+                while (j < right.size && right.ids[j] < left.ids[i]) {
+                    j++;
+                }
+                if (j == right.size || right.ids[j] != left.ids[i]) {
+                    result[count++] = left.ids[i];
+                }
+                i++;
+            }
+            return new PostingList(result, count);
+        }
+    }
+}
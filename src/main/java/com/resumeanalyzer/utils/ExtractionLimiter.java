@@ -0,0 +1,170 @@
+package com.resumeanalyzer.utils;
+
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import com.resumeanalyzer.service.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.annotation.PostConstruct;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of text extraction. A parse needs a permit of its
+ * document type and a share of a memory budget estimated as file size times a
+ * per-type factor (a DOCX is unzipped into a full XWPFDocument, a PDF keeps its
+ * page objects). Callers wait up to the acquire timeout and are then refused
+ * with a {@link ServiceBusyException}. When the old generation is still above
+ * the shed threshold after a collection, new parses are refused at once instead
+ * of pushing the heap into an OutOfMemoryError. HTTP requests answer the refusal
+ * with 429; background jobs retry after its retry-after delay.
+ */
+@Component
+public class ExtractionLimiter {
+
+    // Estimate for sources whose size is unknown
+    private static final long DEFAULT_SIZE_BYTES = 1024 * 1024;
+
+    @Autowired
+    private AnalysisMetrics metrics;
+
+    @Value("${analyzer.extraction.max-concurrent-pdf:4}")
+    private int maxConcurrentPdf;
+
+    @Value("${analyzer.extraction.max-concurrent-docx:4}")
+    private int maxConcurrentDocx;
+
+    @Value("${analyzer.extraction.max-concurrent-text:16}")
+    private int maxConcurrentText;
+
+    // 0 uses a quarter of the maximum heap
+    @Value("${analyzer.extraction.memory-budget:0}")
+    private DataSize memoryBudget;
+
+    @Value("${analyzer.extraction.memory-factor-pdf:8}")
+    private double memoryFactorPdf;
+
+    @Value("${analyzer.extraction.memory-factor-docx:15}")
+    private double memoryFactorDocx;
+
+    @Value("${analyzer.extraction.memory-factor-text:3}")
+    private double memoryFactorText;
+
+    @Value("${analyzer.extraction.acquire-timeout:10s}")
+    private Duration acquireTimeout;
+
+    @Value("${analyzer.extraction.retry-after:5s}")
+    private Duration retryAfter;
+
+    // Fraction of the old generation still in use after GC above which parses are shed; 0 disables shedding
+    @Value("${analyzer.extraction.shed-heap-threshold:0.9}")
+    private double shedHeapThreshold;
+
+    private final Map<String, Semaphore> permitsByType = new HashMap<>();
+    private Semaphore memoryPermits;
+    private int memoryBudgetKb;
+    private List<MemoryPoolMXBean> tenuredPools;
+
+    @PostConstruct
+    public void initialize() {
+        permitsByType.put("pdf", new Semaphore(maxConcurrentPdf, true));
+        permitsByType.put("docx", new Semaphore(maxConcurrentDocx, true));
+        permitsByType.put("text", new Semaphore(maxConcurrentText, true));
+
+        long budgetBytes = memoryBudget.toBytes() > 0 ? memoryBudget.toBytes() : Runtime.getRuntime().maxMemory() / 4;
+        memoryBudgetKb = (int) Math.min(Integer.MAX_VALUE, Math.max(1, budgetBytes / 1024));
+        memoryPermits = new Semaphore(memoryBudgetKb, true);
+
+        // Only the old generation pools support a usage threshold; young pools are always nearly full
+        tenuredPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(pool -> pool.isUsageThresholdSupported() && pool.isCollectionUsageThresholdSupported())
+                .toList();
+        metrics.registerExtractionBudget(memoryPermits, memoryBudgetKb);
+    }
+
+    /**
+     * Waits for the permits to extract a document of the given type and size; close the returned permit when done.
+     */
+    public Permit acquire(String documentType, long sizeBytes) throws ServiceBusyException, InterruptedException {
+        if (isUnderHeapPressure()) {
+            metrics.recordExtractionRejected(documentType, "heap");
+            throw new ServiceBusyException("Server is low on memory, try again later", retryAfter);
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + acquireTimeout.toNanos();
+        Semaphore typePermits = permitsByType.getOrDefault(documentType, permitsByType.get("text"));
+        if (!typePermits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw timedOut(documentType);
+        }
+        int costKb = estimateCostKb(documentType, sizeBytes);
+        if (!memoryPermits.tryAcquire(costKb, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            typePermits.release();
+            throw timedOut(documentType);
+        }
+        metrics.recordExtractionWait(documentType, System.nanoTime() - start);
+        return new Permit(typePermits, costKb);
+    }
+
+    // A document larger than the whole budget may still run, but only alone
+    int estimateCostKb(String documentType, long sizeBytes) {
+        double factor = switch (documentType) {
+            case "pdf" -> memoryFactorPdf;
+            case "docx" -> memoryFactorDocx;
+            default -> memoryFactorText;
+        };
+        long bytes = (long) ((sizeBytes >= 0 ? sizeBytes : DEFAULT_SIZE_BYTES) * factor);
+        return (int) Math.max(1, Math.min(memoryBudgetKb, bytes / 1024));
+    }
+
+    private boolean isUnderHeapPressure() {
+        if (shedHeapThreshold <= 0) {
+            return false;
+        }
+        for (MemoryPoolMXBean pool : tenuredPools) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (afterGc != null && afterGc.getMax() > 0
+                    && (double) afterGc.getUsed() / afterGc.getMax() > shedHeapThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ServiceBusyException timedOut(String documentType) {
+        metrics.recordExtractionRejected(documentType, "timeout");
+        return new ServiceBusyException("Too many documents are being processed, try again later", retryAfter);
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final Semaphore typePermits;
+        private final int costKb;
+        private boolean released;
+
+        private Permit(Semaphore typePermits, int costKb) {
+            this.typePermits = typePermits;
+            this.costKb = costKb;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                memoryPermits.release(costKb);
+                typePermits.release();
+            }
+        }
+    }
+}
@@ -1,119 +1,136 @@
 package com.resumeanalyzer.utils;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import com.resumeanalyzer.extraction.BinaryContentDetector;
+import com.resumeanalyzer.extraction.TextExtractor;
+import com.resumeanalyzer.extraction.TextExtractorRegistry;
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 
 @Component
 public class FileProcessor {
 
+    @Autowired
+    private AnalysisMetrics metrics;
+
+    @Autowired
+    private ExtractionLimiter extractionLimiter;
+
+    @Autowired
+    private TextExtractorRegistry extractorRegistry;
+
     public String extractText(MultipartFile file) throws Exception {
-        String contentType = file.getContentType();
-        String fileName = file.getOriginalFilename();
+        if (file.isEmpty()) {
+            throw new Exception("File is empty");
+        }
         
+        return extractText(file, file.getOriginalFilename(), file.getContentType());
+    }
+
+    /**
+     * Extracts text from any re-readable source, e.g. an upload spooled to disk.
+     * The extractor is chosen by the content's magic bytes; files that are not
+     * what they claim to be, or are over the extractor's size limit, are refused
+     * before parsing. Then waits for the {@link ExtractionLimiter} and throws
+     * {@link com.resumeanalyzer.service.ServiceBusyException} if it stays saturated.
+     */
+    public String extractText(InputStreamSource source, String fileName, String contentType) throws Exception {
         if (fileName == null) {
             throw new Exception("File name cannot be null");
         }
         
-        if (file.isEmpty()) {
-            throw new Exception("File is empty");
+        byte[] head = readHead(source, extractorRegistry.getSniffLength());
+        org.apache.tika.mime.MediaType mediaType = extractorRegistry.detect(head, fileName, contentType);
+        TextExtractor extractor = extractorRegistry.find(mediaType).orElse(null);
+        if (extractor == null) {
+            metrics.recordExtractionRejected("other", "unsupported");
+            throw new Exception("Unsupported file type: " + mediaType.getBaseType());
         }
-        
-        try (InputStream inputStream = file.getInputStream()) {
-            if (contentType != null && contentType.contains("pdf")) {
-                return extractFromPdf(inputStream);
-            } else if (fileName.endsWith(".docx")) {
-                return extractFromDocx(inputStream);
-            } else if (contentType != null && contentType.contains("text")) {
-                return extractFromText(inputStream);
-            } else {
-                // Fallback to text extraction for unknown types
-                return extractFromText(inputStream);
-            }
-        } catch (IOException e) {
-            throw new Exception("Failed to extract text from file: " + e.getMessage(), e);
+        String type = extractor.getType();
+        if (extractor.isTextual() ? BinaryContentDetector.isBinary(head) : !extractorRegistry.hasSignature(head)) {
+            metrics.recordExtractionRejected(type, "content");
+            throw new Exception("File content is not a readable " + type.toUpperCase() + " document");
+        }
+        long size = sizeOf(source);
+        if (size > extractor.getMaxFileSize().toBytes()) {
+            metrics.recordExtractionRejected(type, "size");
+            throw new Exception(type.toUpperCase() + " files are limited to "
+                    + extractor.getMaxFileSize().toMegabytes() + "MB");
+        }
+
+        try (ExtractionLimiter.Permit permit = extractionLimiter.acquire(type, size)) {
+            return extractText(source, extractor, size);
         }
     }
 
-    private String extractFromPdf(InputStream inputStream) throws IOException {
-        try (PDDocument document = PDDocument.load(inputStream)) {
-            if (document.isEncrypted()) {
-                throw new IOException("PDF is encrypted and cannot be processed");
-            }
-            
-            PDFTextStripper stripper = new PDFTextStripper();
-            
-            // Configure stripper to handle problematic characters better
-            stripper.setSortByPosition(true);
-            stripper.setAddMoreFormatting(false);
-            
-            String text = stripper.getText(document);
-            
-            // Clean up the extracted text to remove problematic characters
-            return cleanPdfText(text);
+    private String extractText(InputStreamSource source, TextExtractor extractor, long size) throws Exception {
+        String type = extractor.getType();
+        long start = System.nanoTime();
+        boolean extracted = false;
+        try {
+            String text = extractor.extract(source);
+            extracted = true;
+            metrics.recordDocument(type, size, text.length());
+            return text;
         } catch (IOException e) {
-            throw new IOException("Failed to extract text from PDF: " + e.getMessage(), e);
+            throw new Exception("Failed to extract text from file: " + e.getMessage(), e);
+        } finally {
+            metrics.recordExtraction(type, System.nanoTime() - start, extracted);
         }
     }
-    
-    private String cleanPdfText(String text) {
-        if (text == null) return "";
-        
-        // Remove FontAwesome and other icon characters
-        text = text.replaceAll("[\uE000-\uF8FF]", ""); // Private use area (FontAwesome)
-        text = text.replaceAll("[\u2600-\u26FF]", ""); // Misc symbols
-        text = text.replaceAll("[\u2700-\u27BF]", ""); // Dingbats
-        
-        // Remove other problematic Unicode ranges
-        text = text.replaceAll("[\u0080-\u009F]", ""); // Control characters
-        text = text.replaceAll("[\uFFF0-\uFFFF]", ""); // Specials
-        
-        // Replace common PDF extraction artifacts
-        text = text.replace("", ""); // Replacement character
-        text = text.replace("�", ""); // Another replacement character
-        
-        // Clean up excessive whitespace
-        text = text.replaceAll("\\s+", " ").trim();
-        
-        return text;
+
+    /**
+     * Guess of the document type from the client's file name and content type: "pdf", "docx",
+     * "text" or "other". Used to schedule an upload before its content is read; extraction
+     * itself goes by the sniffed content.
+     */
+    public static String documentType(String fileName, String contentType) {
+        if (contentType != null && contentType.contains("pdf")) {
+            return "pdf";
+        } else if (fileName.endsWith(".docx")) {
+            return "docx";
+        } else if (contentType != null && contentType.contains("text")) {
+            return "text";
+        }
+        return "other";
     }
 
-    private String extractFromDocx(InputStream inputStream) throws IOException {
-        try (XWPFDocument document = new XWPFDocument(inputStream);
-             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
-            String text = extractor.getText();
-            return text != null ? text.trim() : "";
-        } catch (IOException e) {
-            throw new IOException("Failed to extract text from DOCX: " + e.getMessage(), e);
+    private static byte[] readHead(InputStreamSource source, int length) throws IOException {
+        try (InputStream inputStream = source.getInputStream()) {
+            return inputStream.readNBytes(length);
         }
     }
 
-    private String extractFromText(InputStream inputStream) throws IOException {
+    private static long sizeOf(InputStreamSource source) {
         try {
-            String text = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-            return text != null ? text.trim() : "";
+            if (source instanceof MultipartFile file) {
+                return file.getSize();
+            } else if (source instanceof Resource resource) {
+                return resource.contentLength();
+            }
         } catch (IOException e) {
-            throw new IOException("Failed to extract text from file: " + e.getMessage(), e);
+            // Unknown sizes pass the size check and are estimated by the limiter
         }
+        return -1;
+    }
+
+    public String guessContentType(String fileName) {
+        return MediaTypeFactory.getMediaType(fileName)
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
     }
 
     public boolean isSupportedFileType(String fileName, String contentType) {
         if (fileName == null) return false;
         
-        return fileName.endsWith(".pdf") ||
-               fileName.endsWith(".docx") ||
-               fileName.endsWith(".txt") ||
-               (contentType != null && (
-                   contentType.contains("pdf") ||
-                   contentType.contains("word") ||
-                   contentType.contains("text")
-               ));
+        return extractorRegistry.isSupported(fileName, contentType);
     }
 }
@@ -0,0 +1,15 @@
+package com.resumeanalyzer.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Central place for regular expressions shared by the NLP processors, compiled
+ * once as constants.
+ */
+public final class RegexPatterns {
+
+    public static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private RegexPatterns() {
+    }
+}
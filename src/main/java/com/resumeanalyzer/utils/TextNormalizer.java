@@ -0,0 +1,250 @@
+package com.resumeanalyzer.utils;
+
+import com.resumeanalyzer.extraction.ExtractionLimitException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Single-pass replacement for the replaceAll chains that used to clean extracted
+ * and preprocessed text. Every filter (control characters, private use area,
+ * symbols, dingbats, variation selectors, zero-width characters, whitespace
+ * collapsing and trimming) is applied while walking the input once into a
+ * reusable buffer, so the only copy made is the final String.
+ *
+ * Whitespace is collapsed without losing the line structure that section
+ * detection relies on: a run without a line break becomes one space, a run
+ * with line breaks becomes one newline, or two when it spans a blank line.
+ * Spaces at the start and end of lines are dropped.
+ *
+ * Instances keep state between {@link #append} calls, which lets callers feed
+ * text incrementally (e.g. page by page). They are not thread-safe.
+ */
+public final class TextNormalizer {
+
+    public enum Mode {
+        /**
+         * The former TextPreProcessor.preprocessText chain, which also removes control characters,
+         * variation selectors and zero-width characters.
+         */
+        PREPROCESS,
+        /**
+         * The former FileProcessor.cleanPdfText chain.
+         */
+        EXTRACTION
+    }
+
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+
+    // Buffers larger than this are released after use instead of being kept per thread
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<TextNormalizer> PREPROCESS_NORMALIZER =
+            ThreadLocal.withInitial(() -> new TextNormalizer(Mode.PREPROCESS));
+
+    private static final ThreadLocal<TextNormalizer> EXTRACTION_NORMALIZER =
+            ThreadLocal.withInitial(() -> new TextNormalizer(Mode.EXTRACTION));
+
+    private final Mode mode;
+    // Most consecutive newlines written, i.e. at most one blank line
+    private static final int MAX_LINE_BREAKS = 2;
+
+    private char[] buffer = new char[INITIAL_CAPACITY];
+    private int length;
+
+    // Whitespace is held back until the next visible character decides what it becomes
+    private boolean pendingSpace;
+    private int pendingLineBreaks;
+    private boolean afterCarriageReturn;
+
+    public TextNormalizer(Mode mode) {
+        this.mode = mode;
+    }
+
+    public static String normalize(String text, Mode mode) {
+        if (text == null) {
+            return "";
+        }
+        TextNormalizer normalizer = (mode == Mode.PREPROCESS ? PREPROCESS_NORMALIZER : EXTRACTION_NORMALIZER).get();
+        normalizer.reset();
+        return normalizer.append(text).finish();
+    }
+
+    public TextNormalizer append(CharSequence text) {
+        return append(text, 0, text.length());
+    }
+
+    public TextNormalizer append(CharSequence text, int offset, int count) {
+        // Whitespace held back from the previous call may add up to MAX_LINE_BREAKS characters
+        ensureCapacity(length + count + MAX_LINE_BREAKS);
+        int end = offset + count;
+        int i = offset;
+        while (i < end) {
+            char c = text.charAt(i++);
+            if (Character.isHighSurrogate(c) && i < end && Character.isLowSurrogate(text.charAt(i))) {
+                accept(Character.toCodePoint(c, text.charAt(i++)));
+            } else {
+                accept(c);
+            }
+        }
+        return this;
+    }
+
+    public TextNormalizer append(char[] chars, int offset, int count) {
+        ensureCapacity(length + count + MAX_LINE_BREAKS);
+        int end = offset + count;
+        int i = offset;
+        while (i < end) {
+            int codePoint = Character.codePointAt(chars, i, end);
+            i += Character.charCount(codePoint);
+            accept(codePoint);
+        }
+        return this;
+    }
+
+    /**
+     * Returns a Writer that feeds this normalizer, so producers such as PDFTextStripper can
+     * stream into it. Writing fails with an {@link ExtractionLimitException} once the normalized
+     * text grows beyond maxLength characters.
+     */
+    public Writer asWriter(int maxLength) {
+        return new Writer() {
+            @Override
+            public void write(char[] chars, int offset, int count) throws IOException {
+                TextNormalizer.this.append(chars, offset, count);
+                checkLength();
+            }
+
+            @Override
+            public void write(String text, int offset, int count) throws IOException {
+                TextNormalizer.this.append(text, offset, count);
+                checkLength();
+            }
+
+            private void checkLength() throws ExtractionLimitException {
+                if (length > maxLength) {
+                    throw new ExtractionLimitException("Extracted text exceeds the limit of " + maxLength + " characters");
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Number of characters written so far, not counting whitespace still held back.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the trimmed result and resets the normalizer for reuse.
+     */
+    public String finish() {
+        // Leading whitespace is never written and trailing whitespace is still pending. Like the
+        // String.trim() of the old chains, control characters left at either end (EXTRACTION keeps them) go too
+        int start = 0;
+        int end = length;
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        String result = new String(buffer, start, end - start);
+        reset();
+        return result;
+    }
+
+    public void reset() {
+        length = 0;
+        pendingSpace = false;
+        pendingLineBreaks = 0;
+        afterCarriageReturn = false;
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new char[INITIAL_CAPACITY];
+        }
+    }
+
+    private void accept(int codePoint) {
+        if (isRemoved(codePoint)) {
+            // Removed characters never split or join whitespace runs
+            return;
+        }
+        if (isWhitespace(codePoint)) {
+            if (isLineBreak(codePoint)) {
+                // \r\n is one line break
+                if (codePoint != '\n' || !afterCarriageReturn) {
+                    pendingLineBreaks++;
+                }
+            } else {
+                pendingSpace = true;
+            }
+            afterCarriageReturn = codePoint == '\r';
+            return;
+        }
+        afterCarriageReturn = false;
+        writePendingWhitespace();
+        if (Character.isBmpCodePoint(codePoint)) {
+            buffer[length++] = (char) codePoint;
+        } else {
+            buffer[length++] = Character.highSurrogate(codePoint);
+            buffer[length++] = Character.lowSurrogate(codePoint);
+        }
+    }
+
+    private boolean isRemoved(int c) {
+        if ((c >= 0x0080 && c <= 0x009F)       // C1 control characters
+                || (c >= 0xFFF0 && c <= 0xFFFF)    // Specials, including the replacement character
+                || (c >= 0xE000 && c <= 0xF8FF)    // Private use area (FontAwesome icons)
+                || (c >= 0x2600 && c <= 0x27BF)) { // Misc symbols and dingbats
+            return true;
+        }
+        if (mode == Mode.EXTRACTION) {
+            return false;
+        }
+        return (c < 0x20 && c != '\t' && c != '\n' && c != '\r') // ASCII control characters
+                || c == 0x7F
+                || (c >= 0xFE00 && c <= 0xFE0F)    // Variation selectors
+                || (c >= 0x200B && c <= 0x200D)    // Zero-width characters
+                || c == 0xFEFF;
+    }
+
+    private void writePendingWhitespace() {
+        if (length > 0) {
+            if (pendingLineBreaks > 0) {
+                for (int i = Math.min(pendingLineBreaks, MAX_LINE_BREAKS); i > 0; i--) {
+                    buffer[length++] = '\n';
+                }
+            } else if (pendingSpace) {
+                buffer[length++] = ' ';
+            }
+        }
+        pendingSpace = false;
+        pendingLineBreaks = 0;
+    }
+
+    // Same set as the regex \s: space, \t, \n, \x0B, \f and \r
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    // \n, \x0B, \f and \r; PDF page breaks arrive as line separators or form feeds
+    private static boolean isLineBreak(int c) {
+        return c >= '\n' && c <= '\r';
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
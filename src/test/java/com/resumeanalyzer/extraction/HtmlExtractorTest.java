@@ -0,0 +1,48 @@
+package com.resumeanalyzer.extraction;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HtmlExtractorTest {
+
+    // 5 MB, the default analyzer.html.max-file-size
+    private static final int MAX_FILE_CHARS = 5 * 1024 * 1024;
+
+    @Test
+    void convertsMarkupToLaidOutText() {
+        String html = "<!DOCTYPE html><html><head><title>CV</title><style>p{color:red}</style></head><body>\n"
+                + "<h1>Jane   Doe</h1>\n<p>Email: jane@x.com &amp; phone&nbsp;555</p><!-- hidden -->\n"
+                + "<ul><li>Java</li><li>SQL &lt;3</li></ul><table><tr><td>A</td><td>B</td></tr></table>"
+                + "<script>var x = '<p>';</script><p>a < b and c > d</p><br/>Tail <b>bold</b>text</body></html>";
+
+        assertEquals("Jane Doe\nEmail: jane@x.com & phone 555\nJava\nSQL <3\nA\tB\t\na < b and c > d\nTail boldtext",
+                HtmlExtractor.toText(html));
+    }
+
+    @Test
+    void keepsContentOfElementsWithoutEndTag() {
+        assertEquals("T\nNo head end\npara", HtmlExtractor.toText("<head><title>T</title><body>No head end<p>para</p>"));
+        assertEquals("Visible Text", HtmlExtractor.toText("<SCRIPT type=x>alert(1)</SCRIPT >Visible<STYLE>a{}</style>Text"));
+    }
+
+    @Test
+    void treatsTextAfterUnclosedTagAsText() {
+        assertEquals("unclosed <a href='x'", HtmlExtractor.toText("<p>unclosed <a href='x' "));
+        assertEquals("x\nand > more", HtmlExtractor.toText("<!-- unclosed comment <p>x</p> and > more"));
+    }
+
+    @Test
+    void unclosedTagsTakeLinearTime() {
+        // Each of these took minutes with the previous regular expressions
+        for (String unit : new String[]{"<a ", "<script>", "<!--", "<head><p>"}) {
+            String html = unit.repeat(MAX_FILE_CHARS / unit.length());
+            String text = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> HtmlExtractor.toText(html), unit);
+            assertTrue(text.length() <= html.length());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.resumeanalyzer.nlp.features;
+
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SkillMatchEquivalenceTest {
+
+    // Pairs the bidirectional contains() covered but whole-word matching does not; nothing is gained
+    private static final Set<String> INTENDED_DIFFERENCES = Set.of(
+            "java -javascript",
+            "javascript -java",
+            "c -javascript", "c -react", "c -docker", "c -gcp", "c -microservices", "c -css", "c -c++", "c -c#",
+            "c -machine learning", "c -data science",
+            "go -mongodb", "go -django",
+            "r -javascript", "r -react", "r -angular", "r -spring", "r -hibernate", "r -postgresql", "r -redis",
+            "r -docker", "r -kubernetes", "r -azure", "r -gradle", "r -rest", "r -microservices", "r -bootstrap",
+            "r -express", "r -laravel", "r -machine learning", "r -tensorflow",
+            "rails -ai"
+    );
+
+    @Test
+    void differsFromContainsOnlyWhereIntended() throws IOException {
+        SkillTaxonomy taxonomy;
+        try (InputStream input = getClass().getResourceAsStream("/taxonomy.csv")) {
+            taxonomy = SkillTaxonomy.read(input);
+        }
+        AtsVocabulary vocabulary = taxonomy.getAtsVocabulary();
+        int skillCount = vocabulary.skillCount();
+        List<String> vocabularySkills = vocabulary.skills(TermMask.of(IntStream.range(0, skillCount).toArray()));
+
+        Set<String> differences = new TreeSet<>();
+        for (String name : new TreeSet<>(List.of(taxonomy.skillNames()))) {
+            String lower = name.toLowerCase();
+            TermMask mask = vocabulary.skillMatchMask(List.of(name));
+            for (int i = 0; i < skillCount; i++) {
+                String skill = vocabularySkills.get(i);
+                // ATSServiceImpl before the vocabulary masks
+                boolean contained = lower.contains(skill) || skill.contains(lower);
+                boolean matched = mask.contains(i);
+                if (contained != matched) {
+                    differences.add(lower + (matched ? " +" : " -") + skill);
+                }
+            }
+        }
+        assertEquals(new TreeSet<>(INTENDED_DIFFERENCES), differences);
+    }
+}
@@ -0,0 +1,78 @@
+package com.resumeanalyzer.nlp.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TermHashesTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        assertRoundTrip(new int[0]);
+        assertRoundTrip(new int[]{0});
+        assertRoundTrip(new int[]{Integer.MIN_VALUE});
+        assertRoundTrip(new int[]{Integer.MAX_VALUE});
+        assertRoundTrip(new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE});
+        for (long seed = 0; seed < 2_000; seed++) {
+            Random random = new Random(seed);
+            int[] values = random.ints(random.nextInt(300)).sorted().distinct().toArray();
+            assertRoundTrip(values);
+        }
+    }
+
+    @Test
+    void decodesMissingDataAsEmpty() {
+        assertArrayEquals(new int[0], TermHashes.decode(null));
+        assertArrayEquals(new int[0], TermHashes.decode(new byte[0]));
+    }
+
+    @Test
+    void textHashesAreSortedAndDistinct() {
+        int[] hashes = TermHashes.ofText("java java java spring boot java");
+        int[] expected = Arrays.stream(hashes).sorted().distinct().toArray();
+        assertArrayEquals(expected, hashes);
+        // java, spring, boot; java java, java spring, spring boot, boot java;
+        // java java java, java java spring, java spring boot, spring boot java
+        assertEquals(11, hashes.length);
+    }
+
+    @Test
+    void findsPhrasesOfTheText() {
+        int[] text = TermHashes.ofText("built services in spring-boot, node.js and c++ on aws.");
+        assertTrue(containsAll(text, TermHashes.ofPhrase("spring boot")));
+        assertTrue(containsAll(text, TermHashes.ofPhrase("node.js")));
+        assertTrue(containsAll(text, TermHashes.ofPhrase("c++")));
+        assertTrue(containsAll(text, TermHashes.ofPhrase("aws")));
+        assertTrue(containsAll(text, TermHashes.ofPhrase("built services in spring boot")));
+        assertFalse(containsAll(text, TermHashes.ofPhrase("c#")));
+        assertFalse(containsAll(text, TermHashes.ofPhrase("boot spring")));
+        assertFalse(containsAll(text, TermHashes.ofPhrase("java")));
+    }
+
+    @Test
+    void splitsLongPhrasesIntoWindows() {
+        assertEquals(0, TermHashes.ofPhrase(" - ").length);
+        assertEquals(1, TermHashes.ofPhrase("a b").length);
+        assertEquals(1, TermHashes.ofPhrase("a b c").length);
+        assertEquals(3, TermHashes.ofPhrase("a b c d e").length);
+    }
+
+    private static void assertRoundTrip(int[] sorted) {
+        assertArrayEquals(sorted, TermHashes.decode(TermHashes.encode(sorted)));
+    }
+
+    private static boolean containsAll(int[] sorted, int[] hashes) {
+        for (int hash : hashes) {
+            if (Arrays.binarySearch(sorted, hash) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.resumeanalyzer.nlp.features;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TermMaskTest {
+
+    @Test
+    void matchesBitSet() {
+        for (long seed = 0; seed < 2_000; seed++) {
+            Random random = new Random(seed);
+            BitSet left = randomBits(random);
+            BitSet right = randomBits(random);
+            TermMask leftMask = TermMask.of(left.stream().toArray());
+            TermMask rightMask = TermMask.of(right.stream().toArray());
+
+            BitSet and = (BitSet) left.clone();
+            and.and(right);
+            BitSet andNot = (BitSet) left.clone();
+            andNot.andNot(right);
+
+            assertArrayEquals(left.stream().toArray(), leftMask.termIds(), "seed " + seed);
+            assertEquals(left.cardinality(), leftMask.cardinality(), "seed " + seed);
+            assertEquals(and.cardinality(), leftMask.andCardinality(rightMask), "seed " + seed);
+            assertEquals(TermMask.of(and.stream().toArray()), leftMask.and(rightMask), "seed " + seed);
+            assertEquals(TermMask.of(andNot.stream().toArray()), leftMask.andNot(rightMask), "seed " + seed);
+            assertEquals(leftMask, TermMask.decode(leftMask.encode()), "seed " + seed);
+            int probe = random.nextInt(1_000);
+            assertEquals(left.get(probe), leftMask.contains(probe), "seed " + seed);
+        }
+    }
+
+    @Test
+    void emptyResultsEqualEmpty() {
+        TermMask mask = TermMask.of(3, 200);
+        assertTrue(mask.and(TermMask.of(4, 500)).isEmpty());
+        assertEquals(TermMask.EMPTY, mask.andNot(mask));
+        assertEquals(TermMask.of(3), mask.andNot(TermMask.of(200)));
+        assertEquals(TermMask.EMPTY, TermMask.decode(null));
+        assertFalse(TermMask.EMPTY.contains(0));
+    }
+
+    @Test
+    void vocabularyGrowsPastOneWord() {
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            // Delimited so that no skill name contains another
+            skills.add("t" + i + "x");
+        }
+        AtsVocabulary vocabulary = new AtsVocabulary(List.of("agile"), skills, Map.of("last", "t9999x"),
+                UnaryOperator.identity(), Map.of());
+
+        TermMask job = vocabulary.skillMask("needs t70x, t4097x and the last one");
+        assertEquals(List.of("t70x", "t4097x", "t9999x"), vocabulary.skills(job));
+        TermMask resume = vocabulary.skillMatchMask(List.of("t4097x", "t9999x", "t12x"));
+        assertEquals(List.of("t4097x", "t9999x"), vocabulary.skills(job.and(resume)));
+        assertEquals(List.of("t70x"), vocabulary.skills(job.andNot(resume)));
+    }
+
+    private static BitSet randomBits(Random random) {
+        BitSet bits = new BitSet();
+        int range = 1 + random.nextInt(1_000);
+        int count = random.nextInt(range / 4 + 1);
+        for (int i = 0; i < count; i++) {
+            bits.set(random.nextInt(range));
+        }
+        return bits;
+    }
+}
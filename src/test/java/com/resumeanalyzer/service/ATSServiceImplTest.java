@@ -0,0 +1,78 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ATSAnalysisResponse;
+import com.resumeanalyzer.metrics.AnalysisMetrics;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.nlp.document.ParsedDocument;
+import com.resumeanalyzer.nlp.features.FeatureVector;
+import com.resumeanalyzer.nlp.processors.ExperienceProcessor;
+import com.resumeanalyzer.nlp.processors.FeatureProcessor;
+import com.resumeanalyzer.nlp.taxonomy.SkillTaxonomy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ATSServiceImplTest {
+
+    // Names no vocabulary skill or keyword, so only the experience part of the score varies
+    private static final String JOB_DESCRIPTION = "We are hiring.";
+
+    private static final String NO_EXPERIENCE = "No work experience detected";
+
+    private SkillTaxonomy taxonomy;
+    private ResumeFeatureCache featureCache;
+    private ATSServiceImpl atsService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream input = getClass().getResourceAsStream("/taxonomy.csv")) {
+            taxonomy = SkillTaxonomy.read(input);
+        }
+        featureCache = mock(ResumeFeatureCache.class);
+        atsService = new ATSServiceImpl();
+        ReflectionTestUtils.setField(atsService, "featureCache", featureCache);
+        ReflectionTestUtils.setField(atsService, "metrics", new AnalysisMetrics(new SimpleMeterRegistry(), false));
+    }
+
+    @Test
+    void scoresStatedExperienceAboveUnknown() {
+        JobProfile jobProfile = JobProfile.compile(JOB_DESCRIPTION, taxonomy);
+        Resume experienced = analyze("Jane Doe\nBackend developer with 5 years of experience in Java.");
+        Resume unknown = analyze("Jane Doe\nBackend developer.");
+
+        assertEquals(60, featureCache.get(experienced, taxonomy).getExperienceMonths());
+        assertFalse(featureCache.get(unknown, taxonomy).hasExperience());
+
+        // Skills and keywords count 100% each, so the experience part is 5 times what the score exceeds 80 by
+        double experiencedScore = atsService.calculateATSScore(experienced, jobProfile);
+        double unknownScore = atsService.calculateATSScore(unknown, jobProfile);
+        assertEquals(50.0, (unknownScore - 80.0) * 5, 0.01);
+        assertTrue((experiencedScore - 80.0) * 5 > 50.0, "experience score of " + experiencedScore);
+
+        ATSAnalysisResponse experiencedAnalysis = atsService.analyzeATS(experienced, jobProfile);
+        ATSAnalysisResponse unknownAnalysis = atsService.analyzeATS(unknown, jobProfile);
+        assertFalse(experiencedAnalysis.getRecommendations().stream().anyMatch(r -> NO_EXPERIENCE.equals(r.getIssue())));
+        assertTrue(unknownAnalysis.getRecommendations().stream().anyMatch(r -> NO_EXPERIENCE.equals(r.getIssue())));
+    }
+
+    // The experience and feature stages, as the pipeline runs them
+    private Resume analyze(String text) {
+        Resume resume = new Resume();
+        resume.setOriginalText(text);
+        ParsedDocument document = ParsedDocument.parse(text);
+        new ExperienceProcessor().calculateExperience(resume, document);
+        FeatureVector vector = new FeatureProcessor().buildVector(resume, document, taxonomy);
+        when(featureCache.get(resume, taxonomy)).thenReturn(vector);
+        return resume;
+    }
+}
@@ -0,0 +1,68 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ATSAnalysisRequest;
+import com.resumeanalyzer.dto.AnalysisJobResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AsyncUploadServiceImplTest {
+
+    private static final String RESUME = "Jane Doe\njane@example.com\n\nSummary\n"
+            + "Backend developer with 5 years of experience.\n\nSkills\nJava, Spring Boot, Docker, PostgreSQL\n\n"
+            + "Education\nB.Sc. Computer Science, 2015\n";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    @Autowired
+    private AsyncUploadService asyncUploadService;
+
+    @Autowired
+    private ResumeFeatureCache featureCache;
+
+    @Test
+    void reuploadIsScoredFromTheStoredResume() throws Exception {
+        ATSAnalysisRequest atsRequest = new ATSAnalysisRequest();
+        atsRequest.setJobDescription("Senior Java developer with Spring Boot and Kubernetes.");
+
+        AnalysisJobResponse first = awaitCompletion(asyncUploadService.submit(upload(), atsRequest));
+        // Same bytes: served from the stored resume on a worker thread without the request's session,
+        // with the stored features read from the database too
+        featureCache.invalidateAll();
+        AnalysisJobResponse second = awaitCompletion(asyncUploadService.submit(upload(), atsRequest));
+
+        assertEquals(first.getResult().getId(), second.getResult().getId());
+        assertNotNull(second.getResult().getAtsAnalysis());
+        assertEquals(first.getResult().getAtsAnalysis().getAtsScore(), second.getResult().getAtsAnalysis().getAtsScore());
+        assertEquals(first.getResult().getAtsAnalysis().getRecommendations(),
+                second.getResult().getAtsAnalysis().getRecommendations());
+    }
+
+    private static MockMultipartFile upload() {
+        return new MockMultipartFile("file", "jane.txt", "text/plain", RESUME.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private AnalysisJobResponse awaitCompletion(AnalysisJobResponse submitted) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        AnalysisJobResponse job = submitted;
+        while (!"COMPLETED".equals(job.getStatus()) && !"FAILED".equals(job.getStatus())) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Job " + job.getJobId() + " still " + job.getStatus());
+            }
+            Thread.sleep(50);
+            job = asyncUploadService.getJob(job.getJobId());
+        }
+        assertEquals("COMPLETED", job.getStatus(), job.getMessage());
+        return job;
+    }
+}
@@ -0,0 +1,99 @@
+package com.resumeanalyzer.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextNormalizerTest {
+
+    // Every character class the old chains treated specially, plus neighbours of each removed range
+    private static final char[] ALPHABET = {
+            'a', 'Z', '7', '.', ' ', '\t', '\n', '\r', 0x0B, '\f', 0x00, 0x01, 0x1F, 0x7F,
+            0x80, 0x9F, 0xA0, 0xE9, 0x2028, 0x3000, 0x25FF, 0x2600, 0x27BF, 0x2800, 0xDFFF, 0xE000, 0xF8FF, 0xF900,
+            0x200A, 0x200B, 0x200D, 0x200E, 0xFDFF, 0xFE00, 0xFE0F, 0xFE10, 0xFEFF, 0xFFEF, 0xFFF0, 0xFFFD, 0xFFFF,
+            0xD83D, 0xDE00
+    };
+
+    private static final Pattern LINE_BREAKS = Pattern.compile("\n+");
+
+    @Test
+    void matchesTheReplacedChainsApartFromLineBreaks() {
+        // Since sections are detected from lines, runs with line breaks become newlines instead of a space
+        for (long seed = 0; seed < 20_000; seed++) {
+            String text = randomText(new Random(seed));
+            assertEquals(LegacyChains.preprocess(text), withoutLineBreaks(text, TextNormalizer.Mode.PREPROCESS),
+                    "PREPROCESS, seed " + seed);
+            assertEquals(LegacyChains.cleanPdfText(text), withoutLineBreaks(text, TextNormalizer.Mode.EXTRACTION),
+                    "EXTRACTION, seed " + seed);
+        }
+    }
+
+    @Test
+    void keepsLineStructure() {
+        assertEquals("Jane Doe\nSkills: Java\n\nExperience",
+                TextNormalizer.normalize("  Jane \t Doe \r\nSkills:\u200B Java  \n\n\n \nExperience \n",
+                        TextNormalizer.Mode.PREPROCESS));
+    }
+
+    @Test
+    void writerMatchesOneAppend() throws IOException {
+        String text = "Skills \uD83D\uDE00 Java \n\n SQL\u2022  Go\r\n";
+        TextNormalizer normalizer = new TextNormalizer(TextNormalizer.Mode.EXTRACTION);
+        Writer writer = normalizer.asWriter(Integer.MAX_VALUE);
+        // Chunks split the surrogate pair and the whitespace runs
+        for (int start = 0; start < text.length(); start += 3) {
+            writer.write(text, start, Math.min(3, text.length() - start));
+        }
+        assertEquals(TextNormalizer.normalize(text, TextNormalizer.Mode.EXTRACTION), normalizer.finish());
+    }
+
+    private static String withoutLineBreaks(String text, TextNormalizer.Mode mode) {
+        return LINE_BREAKS.matcher(TextNormalizer.normalize(text, mode)).replaceAll(" ");
+    }
+
+    private static String randomText(Random random) {
+        int length = random.nextInt(32);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * TextPreProcessor.preprocessText and FileProcessor.cleanPdfText as they were before TextNormalizer.
+     */
+    private static final class LegacyChains {
+
+        static String preprocess(String text) {
+            text = text.replaceAll("[\\p{Cntrl}&&[^\r\n\t]]", "");
+            text = text.replaceAll("[\\u0080-\\u009F]", "");
+            text = text.replaceAll("[\\uFFF0-\\uFFFF]", "");
+            text = text.replaceAll("[\\uE000-\\uF8FF]", "");
+            text = text.replaceAll("[\\u2600-\\u26FF]", "");
+            text = text.replaceAll("[\\u2700-\\u27BF]", "");
+            text = text.replaceAll("[\\uFE00-\\uFE0F]", "");
+            text = text.replaceAll("[\\u200B-\\u200D\\uFEFF]", "");
+            text = text.replaceAll("\\s+", " ");
+            text = text.replaceAll("\\n+", "\n");
+            text = text.replaceAll("\\r", "").trim();
+            text = text.replace("\uFFFD", "");
+            return text.replaceAll("[\\x00-\\x08\\x0B\\x0C\\x0E-\\x1F\\x7F]", "");
+        }
+
+        static String cleanPdfText(String text) {
+            text = text.replaceAll("[\\uE000-\\uF8FF]", "");
+            text = text.replaceAll("[\\u2600-\\u26FF]", "");
+            text = text.replaceAll("[\\u2700-\\u27BF]", "");
+            text = text.replaceAll("[\\u0080-\\u009F]", "");
+            text = text.replaceAll("[\\uFFF0-\\uFFFF]", "");
+            text = text.replace("\uFFFD", "");
+            return text.replaceAll("\\s+", " ").trim();
+        }
+    }
+}